@@ -3,11 +3,14 @@ package laoruga.dto.generator.examples;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.laoruga.dtogenerator.DtoGenerator;
+import org.laoruga.dtogenerator.api.accessors.DtoAccessors;
 import org.laoruga.dtogenerator.examples.Utils;
 import org.laoruga.dtogenerator.examples.dto.Office;
+import org.laoruga.dtogenerator.examples.dto.Person;
 import org.laoruga.dtogenerator.examples.dto.SolarSystem;
 import org.laoruga.dtogenerator.examples.dto.TwoFields;
 import org.laoruga.dtogenerator.examples.generators.custom.remark.PersonRemark;
+import org.laoruga.dtogenerator.util.DtoAccessorsUtils;
 
 import java.util.Arrays;
 
@@ -78,4 +81,27 @@ class ExamplesTest {
 
     }
 
+    @Test
+    void compileTimeGeneratedAccessors() {
+        DtoAccessors<TwoFields> twoFieldsAccessors = DtoAccessorsUtils.getAccessors(TwoFields.class)
+                .orElseThrow(() -> new AssertionError("Accessors haven't been generated"));
+        DtoAccessors<Person> personAccessors = DtoAccessorsUtils.getAccessors(Person.class)
+                .orElseThrow(() -> new AssertionError("Accessors haven't been generated"));
+
+        assertAll(
+                () -> assertThat(twoFieldsAccessors.newInstance(), instanceOf(TwoFields.class)),
+                () -> assertNotNull(twoFieldsAccessors.getFieldSetter("secondField")),
+                () -> assertThat(personAccessors.newInstance(), instanceOf(Person.class)),
+                () -> assertNull(personAccessors.getFieldSetter("fio"))
+        );
+
+        TwoFields twoFields = DtoGenerator.builder(TwoFields.class).build().generateDto();
+        Person person = DtoGenerator.builder(Person.class).build().generateDto();
+
+        assertAll(
+                () -> assertThat(twoFields.getFirstField(), containsString(twoFields.getSecondField())),
+                () -> assertThat(person.getFio(), notNullValue())
+        );
+    }
+
 }
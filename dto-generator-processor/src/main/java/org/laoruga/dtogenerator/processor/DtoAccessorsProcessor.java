@@ -0,0 +1,251 @@
+package org.laoruga.dtogenerator.processor;
+
+import org.laoruga.dtogenerator.api.accessors.DtoAccessors;
+import org.laoruga.dtogenerator.api.accessors.FieldSetter;
+import org.laoruga.dtogenerator.api.rules.meta.Rule;
+import org.laoruga.dtogenerator.util.ReflectionUtils;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Annotation processor generating {@link DtoAccessors} for the classes, which contain
+ * fields annotated with rules, for example {@code @StringRule} or {@code @NestedDtoRule}.
+ * <p>
+ * Generated accessors create DTO instances via no-args constructor and set the fields,
+ * accessible from the package of DTO, with plain assignments, so DTO generator doesn't use
+ * reflection for them. If DTO class has no no-args constructor accessible from its package,
+ * generated accessors create instances via reflection.
+ * <p>
+ * Generators aren't generated: their configuration depends on the settings of the builder,
+ * so rules are still read when DTO generator is built.
+ * Processor is enabled by adding 'dto-generator-processor' to the compile classpath.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@SupportedAnnotationTypes("org.laoruga.dtogenerator.api.rules.*")
+public class DtoAccessorsProcessor extends AbstractProcessor {
+
+    private static final String INDENT = "    ";
+
+    private final Set<String> processedTypes = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> dtoTypes = new LinkedHashSet<>();
+
+        for (TypeElement annotation : annotations) {
+            if (!isRule(annotation)) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    dtoTypes.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+
+        for (TypeElement dtoType : dtoTypes) {
+            if (processedTypes.add(dtoType.getQualifiedName().toString())) {
+                generateAccessors(dtoType);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return true if the annotation is a rule or a container of repeatable rules
+     */
+    private boolean isRule(TypeElement annotation) {
+        if (annotation.getAnnotation(Rule.class) != null) {
+            return true;
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(annotation.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals("value") && method.getReturnType().getKind() == TypeKind.ARRAY) {
+                TypeMirror componentType = ((ArrayType) method.getReturnType()).getComponentType();
+                if (componentType.getKind() == TypeKind.DECLARED &&
+                        ((DeclaredType) componentType).asElement().getAnnotation(Rule.class) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generateAccessors(TypeElement dtoType) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(dtoType);
+        if (!isAccessible(dtoType, packageElement)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Accessors aren't generated for the class, which isn't accessible from its package", dtoType);
+            return;
+        }
+
+        String packageName = packageElement.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(dtoType).toString();
+        String accessorsBinaryName = binaryName + DtoAccessors.CLASS_NAME_SUFFIX;
+        String accessorsSimpleName = packageName.isEmpty()
+                ? accessorsBinaryName
+                : accessorsBinaryName.substring(packageName.length() + 1);
+
+        String source = generateSource(dtoType, packageName, accessorsSimpleName);
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(accessorsBinaryName, dtoType);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write generated accessors: " + e.getMessage(), dtoType);
+        }
+    }
+
+    private String generateSource(TypeElement dtoType, String packageName, String accessorsSimpleName) {
+        String dtoTypeName = processingEnv.getTypeUtils().erasure(dtoType.asType()).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Generated by ").append(DtoAccessorsProcessor.class.getName()).append(".\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(accessorsSimpleName)
+                .append(" implements ").append(DtoAccessors.class.getName()).append('<').append(dtoTypeName).append("> {\n\n");
+
+        boolean instantiable = isInstantiable(dtoType);
+
+        if (!instantiable) {
+            source.append(INDENT).append("private static final ").append(Supplier.class.getName())
+                    .append('<').append(dtoTypeName).append("> INSTANTIATOR =\n")
+                    .append(INDENT).append(INDENT).append(INDENT).append(ReflectionUtils.class.getName())
+                    .append(".getNoArgsInstantiator(").append(dtoTypeName).append(".class);\n\n");
+        }
+
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public ").append(dtoTypeName).append(" newInstance() {\n")
+                .append(INDENT).append(INDENT);
+        if (instantiable) {
+            source.append("return new ").append(dtoTypeName).append("();\n");
+        } else {
+            source.append("return INSTANTIATOR.get();\n");
+        }
+        source.append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public ").append(FieldSetter.class.getName())
+                .append(" getFieldSetter(String fieldName) {\n")
+                .append(INDENT).append(INDENT).append("switch (fieldName) {\n");
+
+        for (VariableElement field : ElementFilter.fieldsIn(dtoType.getEnclosedElements())) {
+            if (!isWritable(field)) {
+                continue;
+            }
+            String fieldName = field.getSimpleName().toString();
+            String fieldTypeName = processingEnv.getTypeUtils().erasure(field.asType()).toString();
+            source.append(INDENT).append(INDENT).append(INDENT)
+                    .append("case \"").append(fieldName).append("\":\n")
+                    .append(INDENT).append(INDENT).append(INDENT).append(INDENT)
+                    .append("return (dto, value) -> ((").append(dtoTypeName).append(") dto).").append(fieldName)
+                    .append(" = (").append(fieldTypeName).append(") value;\n");
+        }
+
+        source.append(INDENT).append(INDENT).append(INDENT).append("default:\n")
+                .append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("return null;\n")
+                .append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append("}\n\n")
+                .append("}\n");
+
+        return source.toString();
+    }
+
+    private boolean isInstantiable(TypeElement dtoType) {
+        if (dtoType.getKind() != ElementKind.CLASS || dtoType.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (dtoType.getNestingKind() == NestingKind.MEMBER && !dtoType.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(dtoType.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWritable(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        return !modifiers.contains(Modifier.PRIVATE) &&
+                !modifiers.contains(Modifier.FINAL) &&
+                !modifiers.contains(Modifier.STATIC) &&
+                isAccessible(processingEnv.getTypeUtils().erasure(field.asType()),
+                        processingEnv.getElementUtils().getPackageOf(field));
+    }
+
+    private boolean isAccessible(TypeMirror type, PackageElement fromPackage) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType(), fromPackage);
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return isAccessible((TypeElement) ((DeclaredType) type).asElement(), fromPackage);
+        }
+        return type.getKind().isPrimitive();
+    }
+
+    /**
+     * Generated accessors aren't subclasses of the type, so protected types are accessible
+     * only from their own package, like package-private ones.
+     *
+     * @return true if the type and all its enclosing types can be referenced from the passed package
+     */
+    private boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).equals(fromPackage);
+        Element element = type;
+        while (element instanceof TypeElement) {
+            TypeElement typeElement = (TypeElement) element;
+            Set<Modifier> modifiers = typeElement.getModifiers();
+            if (typeElement.getNestingKind() == NestingKind.LOCAL ||
+                    typeElement.getNestingKind() == NestingKind.ANONYMOUS ||
+                    modifiers.contains(Modifier.PRIVATE) ||
+                    !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+}
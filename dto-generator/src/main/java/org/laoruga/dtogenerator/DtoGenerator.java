@@ -1,22 +1,45 @@
 package org.laoruga.dtogenerator;
 
 import lombok.AccessLevel;
-import lombok.Getter;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.laoruga.dtogenerator.api.RandomSource;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
 import org.laoruga.dtogenerator.generator.executors.BatchExecutor;
 import org.laoruga.dtogenerator.generator.executors.ExecutorOfCollectionGenerator;
 import org.laoruga.dtogenerator.generator.executors.ExecutorOfDtoDependentGenerator;
 import org.laoruga.dtogenerator.generator.executors.ExecutorOfGenerator;
+import org.laoruga.dtogenerator.util.ThreadUtils;
+import org.laoruga.dtogenerator.util.random.SeededRandomSource;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * DtoGenerator generates random field values:
  * 1) in passed object {@link DtoGenerator#builder(Object)};
  * 2) or in new objects instantiated by passed class {@link DtoGenerator#builder(Class)}.
  * DtoGenerator is thread safe, so you can use single instance to generate new objects
- * from different threads simultaneously.
+ * from different threads simultaneously. Generators and their execution plan are prepared eagerly,
+ * when DtoGenerator is built, and aren't changed after that. Static configuration is captured
+ * on building too, so its later changes are applied only to generators built afterwards.
+ * State of each generation is local to the call, so threads don't block each other.
  * Generation rules are configuring via {@link DtoGeneratorBuilder}.
  * You can't change configuration after instantiating.
  *
@@ -27,17 +50,47 @@ import java.util.function.Supplier;
 @Slf4j
 public class DtoGenerator<T> {
 
-    @Getter(AccessLevel.PACKAGE)
-    private final ErrorsHolder errorsHolder;
-    private BatchExecutor batchExecutor;
-    private final Supplier<?> dtoInstanceSupplier;
+    private static final int TASKS_PER_WORKER = 4;
 
-    private final FieldGenerators fieldGenerators;
+    private final BatchExecutor batchExecutor;
+    private final Supplier<?> dtoInstanceSupplier;
+    /**
+     * Random sources of the threads generating DTOs, null if the default source is used.
+     */
+    private final ThreadLocal<RandomSource> randomSources;
+    /**
+     * Whether random sources are seeded, in this case each DTO gets the index.
+     */
+    private final boolean seeded;
+    /**
+     * Index of the next generated DTO, used if generator is seeded.
+     */
+    private final AtomicLong nextIndex = new AtomicLong();
+    /**
+     * Clock of date-time generators, null if the system clock is used.
+     */
+    private final Clock clock;
 
     public DtoGenerator(FieldGenerators fieldGenerators, Supplier<?> dtoInstanceSupplier) {
-        this.errorsHolder = new ErrorsHolder();
-        this.fieldGenerators = fieldGenerators;
+        this(fieldGenerators, dtoInstanceSupplier, null, null, null);
+    }
+
+    DtoGenerator(FieldGenerators fieldGenerators,
+                 Supplier<?> dtoInstanceSupplier,
+                 Supplier<? extends RandomSource> randomSourceFactory,
+                 Long seed,
+                 Clock clock) {
         this.dtoInstanceSupplier = dtoInstanceSupplier;
+        this.batchExecutor = createBatchExecutor(fieldGenerators);
+        this.seeded = seed != null;
+        if (seeded) {
+            this.randomSources = ThreadLocal.withInitial(() -> new SeededRandomSource(seed));
+        } else {
+            this.randomSources = randomSourceFactory != null
+                    ? ThreadLocal.withInitial(randomSourceFactory)
+                    : null;
+        }
+        this.clock = clock;
     }
 
     public static <T> DtoGeneratorBuilder<T> builder(Class<T> dtoClass) {
@@ -51,53 +104,422 @@ public class DtoGenerator<T> {
     /**
      * @return updated or new DTO instance containing generated data
      */
-    @SuppressWarnings("unchecked")
     public T generateDto() {
+        return generateDto(batchExecutor, getMaxFailuresNumber());
+    }
+
+    /**
+     * Generates several DTO instances at once.
+     * <p>
+     * Generation preparations are made once per batch, so it is more effective way to get a lot of DTOs
+     * than calling {@link DtoGenerator#generateDto()} in a loop.
+     * <p>
+     * When generator is built for DTO instance {@link DtoGenerator#builder(Object)}, the same instance
+     * is updated on each iteration, so the result will contain the same DTO instance several times.
+     *
+     * @param number number of DTO instances to generate
+     * @return list of DTO instances containing generated data
+     */
+    public List<T> generateDtos(int number) {
+        return generateInto(new ArrayList<>(number), number);
+    }
+
+    /**
+     * Generates several DTO instances at once and adds them to the passed collection.
+     *
+     * @param target collection to add generated DTO instances
+     * @param number number of DTO instances to generate
+     * @param <C>    type of collection
+     * @return passed collection
+     * @see DtoGenerator#generateDtos(int)
+     */
+    public <C extends Collection<? super T>> C generateInto(@NonNull C target, int number) {
+
+        if (number < 0) {
+            throw new IllegalArgumentException("Number of DTO instances must not be negative, but was: " + number);
+        }
 
-        Object dtoInstance;
+        final int maxFailuresNumber = getMaxFailuresNumber();
+        final long firstIndex = nextIndexes(number);
+        final RandomSource randomSource = randomSource();
 
         try {
 
-            if (dtoInstanceSupplier instanceof DtoInstanceSupplier) {
-                ((DtoInstanceSupplier) dtoInstanceSupplier).updateInstance();
+            for (int i = 0; i < number; i++) {
+                target.add(generateNext(batchExecutor, maxFailuresNumber, firstIndex + i, randomSource));
             }
 
-            dtoInstance = dtoInstanceSupplier.get();
+        } catch (Exception e) {
 
-            synchronized (this) {
-                if (batchExecutor == null) {
+            throw new DtoGeneratorException("Error during generators execution", e);
 
-                    ExecutorOfGenerator generalGeneratorExecutor =
-                            new ExecutorOfGenerator();
+        }
 
-                    ExecutorOfCollectionGenerator collectionGeneratorExecutor =
-                            new ExecutorOfCollectionGenerator(generalGeneratorExecutor);
+        return target;
+    }
 
-                    ExecutorOfDtoDependentGenerator dtoDependentGeneratorExecutor =
-                            new ExecutorOfDtoDependentGenerator(collectionGeneratorExecutor);
+    /**
+     * Generates DTO having the passed index, without generating of the DTOs before it.
+     * Result is the same as the DTO generated at the same position by the sequential generation
+     * with the same seed, so any slice of the dataset may be generated by any process independently.
+     * <p>
+     * Doesn't affect indexes of DTOs generated by the other methods.
+     *
+     * @param index index of DTO, starting from 0
+     * @return updated or new DTO instance containing generated data
+     * @throws DtoGeneratorException if generator isn't seeded, see {@link DtoGeneratorBuilder#seed(long)}
+     */
+    public T generateDto(long index) {
+        return generateRange(index, index + 1).get(0);
+    }
 
-                    batchExecutor = new BatchExecutor(
-                            dtoDependentGeneratorExecutor,
-                            fieldGenerators
-                    );
-                }
-            }
+    /**
+     * Generates DTOs having indexes in the passed range, see {@link DtoGenerator#generateDto(long)}.
+     *
+     * @param from index of the first DTO inclusive
+     * @param to   index of the last DTO exclusive
+     * @return list of DTO instances containing generated data, in the order of indexes
+     * @throws DtoGeneratorException if generator isn't seeded, see {@link DtoGeneratorBuilder#seed(long)}
+     */
+    public List<T> generateRange(long from, long to) {
+
+        if (!seeded) {
+            throw new DtoGeneratorException("Generation of DTOs by index requires seeded generator," +
+                    " set the seed by DtoGeneratorBuilder#seed(long)");
+        }
+        if (from < 0 || to < from || to - from > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Invalid range of DTO indexes: [" + from + ", " + to + ")");
+        }
+
+        final int maxFailuresNumber = getMaxFailuresNumber();
+        final List<T> result = new ArrayList<>((int) (to - from));
+        final RandomSource randomSource = randomSource();
 
-            batchExecutor.execute();
+        try {
+
+            for (long index = from; index < to; index++) {
+                result.add(generateNext(batchExecutor, maxFailuresNumber, index, randomSource));
+            }
 
         } catch (Exception e) {
 
             throw new DtoGeneratorException("Error during generators execution", e);
 
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates several DTO instances simultaneously in the separate {@link ForkJoinPool}.
+     * <p>
+     * Requested range of DTOs is recursively split between the pool workers. Every worker has its own
+     * DTO instance and random state, so workers don't block each other and throughput grows
+     * with the parallelism level up to the number of available processors.
+     * <p>
+     * When generator is built for DTO instance {@link DtoGenerator#builder(Object)}, the same instance
+     * can't be updated concurrently, so in this case DTOs are generated sequentially.
+     *
+     * @param number      number of DTO instances to generate
+     * @param parallelism number of the pool workers
+     * @return list of DTO instances containing generated data, in the order of generation tasks
+     * @see DtoGenerator#generateDtos(int)
+     */
+    public List<T> generateDtosParallel(int number, int parallelism) {
+
+        if (number < 0) {
+            throw new IllegalArgumentException("Number of DTO instances must not be negative, but was: " + number);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, but was: " + parallelism);
+        }
+
+        if (parallelism == 1 || !(dtoInstanceSupplier instanceof DtoInstanceSupplier)) {
+            return generateDtos(number);
+        }
+
+        Object[] result = new Object[number];
+        int threshold = Math.max(1, number / (parallelism * TASKS_PER_WORKER));
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new GenerationTask(result, 0, number, threshold,
+                    batchExecutor, getMaxFailuresNumber(), nextIndexes(number)));
+        } finally {
+            pool.shutdown();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> dtoList = (List<T>) Arrays.asList(result);
+        return new ArrayList<>(dtoList);
+    }
+
+    /**
+     * Generates several DTO instances simultaneously, running generation on virtual threads
+     * when the JVM provides them (Java 21+), otherwise on the fixed pool of platform threads.
+     * <p>
+     * This mode is intended for the cases when generators block, for example, custom generators
+     * reading reference data from files or embedded stores. Requested DTOs are divided between
+     * {@code concurrency} tasks, each task generates its part of DTOs sequentially in own thread.
+     * With virtual threads, blocked tasks don't occupy platform threads, so concurrency may be much
+     * greater than the number of processors. On the JVMs without virtual threads the pool of
+     * {@code concurrency} platform threads is used, so the value should be chosen accordingly.
+     * <p>
+     * When generator is built for DTO instance {@link DtoGenerator#builder(Object)}, the same instance
+     * can't be updated concurrently, so in this case DTOs are generated sequentially.
+     *
+     * @param number      number of DTO instances to generate
+     * @param concurrency max number of DTOs being generated at the same time
+     * @return list of DTO instances containing generated data
+     * @see ThreadUtils#isVirtualThreadsSupported()
+     */
+    public List<T> generateDtosConcurrently(int number, int concurrency) {
+
+        if (number < 0) {
+            throw new IllegalArgumentException("Number of DTO instances must not be negative, but was: " + number);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive, but was: " + concurrency);
+        }
+
+        int tasksNumber = Math.min(number, concurrency);
+
+        if (tasksNumber <= 1 || !(dtoInstanceSupplier instanceof DtoInstanceSupplier)) {
+            return generateDtos(number);
+        }
+
+        final int maxFailuresNumber = getMaxFailuresNumber();
+        final long firstIndex = nextIndexes(number);
+        final Object[] result = new Object[number];
+
+        ExecutorService executorService = ThreadUtils.newVirtualThreadPerTaskExecutorOrPool(tasksNumber);
+
+        try {
+
+            List<Future<?>> futures = new ArrayList<>(tasksNumber);
+            for (int task = 0; task < tasksNumber; task++) {
+                int from = (int) ((long) number * task / tasksNumber);
+                int to = (int) ((long) number * (task + 1) / tasksNumber);
+                futures.add(executorService.submit(() -> fillRange(result, from, to, batchExecutor, maxFailuresNumber, firstIndex)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof DtoGeneratorException) {
+                throw (DtoGeneratorException) e.getCause();
+            }
+            throw new DtoGeneratorException("Error during generators execution", e.getCause());
+
+        } catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            throw new DtoGeneratorException("Concurrent generation has been interrupted", e);
+
         } finally {
 
-            if (dtoInstanceSupplier instanceof DtoInstanceSupplier) {
-                ((DtoInstanceSupplier) dtoInstanceSupplier).remove();
+            executorService.shutdownNow();
+
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> dtoList = (List<T>) Arrays.asList(result);
+        return new ArrayList<>(dtoList);
+    }
+
+    /**
+     * Returns infinite lazy stream of generated DTO instances,
+     * so it has to be limited, for example, via {@link Stream#limit(long)}.
+     * <p>
+     * DTO instances are generated on demand, one by one, so they aren't accumulated in memory.
+     * Stream is unordered and may be used in parallel.
+     *
+     * @return infinite stream of DTO instances containing generated data
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(new DtoSpliterator(batchExecutor, getMaxFailuresNumber()), false);
+    }
+
+    /**
+     * Returns infinite iterator of generated DTO instances, each {@link Iterator#next()} call
+     * generates new DTO instance.
+     *
+     * @return infinite iterator of DTO instances containing generated data
+     */
+    public Iterator<T> iterator() {
+        final int maxFailuresNumber = getMaxFailuresNumber();
+
+        return new Iterator<T>() {
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public T next() {
+                return generateDto(batchExecutor, maxFailuresNumber);
+            }
+        };
+    }
+
+    private T generateDto(BatchExecutor executor, int maxFailuresNumber) {
+        try {
+
+            return generateNext(executor, maxFailuresNumber, nextIndexes(1), randomSource());
+
+        } catch (Exception e) {
+
+            throw new DtoGeneratorException("Error during generators execution", e);
+
+        }
+    }
+
+    private void fillRange(Object[] result, int from, int to, BatchExecutor executor, int maxFailuresNumber,
+                           long firstIndex) {
+        RandomSource randomSource = randomSource();
+
+        try {
+
+            for (int i = from; i < to; i++) {
+                result[i] = generateNext(executor, maxFailuresNumber, firstIndex + i, randomSource);
             }
 
+        } catch (Exception e) {
+
+            throw new DtoGeneratorException("Error during generators execution", e);
+
+        }
+    }
+
+    /**
+     * @param number number of DTOs to generate
+     * @return index of the first DTO, if generator is seeded
+     */
+    private long nextIndexes(int number) {
+        return seeded ? nextIndex.getAndAdd(number) : 0;
+    }
+
+    /**
+     * @return random source of the current thread, or null if the default source is used
+     */
+    private RandomSource randomSource() {
+        return randomSources != null ? randomSources.get() : null;
+    }
+
+    /**
+     * @param randomSource random source of the current thread, resolved once per batch, or null
+     */
+    @SuppressWarnings("unchecked")
+    private T generateNext(BatchExecutor executor, int maxFailuresNumber, long index, RandomSource randomSource) {
+
+        if (seeded) {
+            ((SeededRandomSource) randomSource).startDto(index);
         }
 
+        Object dtoInstance = dtoInstanceSupplier instanceof DtoInstanceSupplier
+                ? ((DtoInstanceSupplier) dtoInstanceSupplier).createInstance()
+                : dtoInstanceSupplier.get();
+
+        executor.execute(dtoInstance, maxFailuresNumber, randomSource, clock);
+
         return (T) dtoInstance;
     }
 
+    private static BatchExecutor createBatchExecutor(FieldGenerators fieldGenerators) {
+
+        ExecutorOfGenerator generalGeneratorExecutor =
+                new ExecutorOfGenerator();
+
+        ExecutorOfCollectionGenerator collectionGeneratorExecutor =
+                new ExecutorOfCollectionGenerator(generalGeneratorExecutor);
+
+        ExecutorOfDtoDependentGenerator dtoDependentGeneratorExecutor =
+                new ExecutorOfDtoDependentGenerator(collectionGeneratorExecutor);
+
+        return new BatchExecutor(
+                dtoDependentGeneratorExecutor,
+                fieldGenerators
+        );
+    }
+
+    private int getMaxFailuresNumber() {
+        return batchExecutor.getMaxFailuresNumber();
+    }
+
+    /**
+     * Fills the range of result array with generated DTOs,
+     * splitting the range in halves while it is bigger than threshold.
+     */
+    @AllArgsConstructor
+    private class GenerationTask extends RecursiveAction {
+
+        private final Object[] result;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final BatchExecutor executor;
+        private final int maxFailuresNumber;
+        private final long firstIndex;
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                fillRange(result, from, to, executor, maxFailuresNumber, firstIndex);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new GenerationTask(result, from, middle, threshold, executor, maxFailuresNumber, firstIndex),
+                        new GenerationTask(result, middle, to, threshold, executor, maxFailuresNumber, firstIndex)
+                );
+            }
+        }
+
+    }
+
+    /**
+     * Infinite, unordered source of DTO instances. Each split shares prepared generators and executors.
+     * Like {@link Stream#generate(Supplier)} source, estimated size is halved on each split
+     * to limit splitting depth.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private class DtoSpliterator implements Spliterator<T> {
+
+        private final BatchExecutor executor;
+        private final int maxFailuresNumber;
+        private long estimatedSize;
+
+        DtoSpliterator(BatchExecutor executor, int maxFailuresNumber) {
+            this(executor, maxFailuresNumber, Long.MAX_VALUE);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            action.accept(generateDto(executor, maxFailuresNumber));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (estimatedSize == 0) {
+                return null;
+            }
+            estimatedSize >>>= 1;
+            return new DtoSpliterator(executor, maxFailuresNumber, estimatedSize);
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL | IMMUTABLE;
+        }
+    }
+
 }
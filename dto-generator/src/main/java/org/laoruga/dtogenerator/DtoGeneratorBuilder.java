@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import org.apache.commons.lang3.tuple.Pair;
+import org.laoruga.dtogenerator.api.RandomSource;
 import org.laoruga.dtogenerator.api.generators.Generator;
 import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorArgs;
 import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorBoundary;
@@ -19,8 +20,12 @@ import org.laoruga.dtogenerator.constants.Boundary;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
 import org.laoruga.dtogenerator.generator.config.dto.ConfigDto;
 import org.laoruga.dtogenerator.util.dummy.DummyCustomGenerator;
+import org.laoruga.dtogenerator.util.random.RandomSources;
 
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 
 import static org.laoruga.dtogenerator.DtoGeneratorBuildersTree.ROOT;
@@ -62,6 +67,11 @@ public class DtoGeneratorBuilder<T> {
     private final CustomGeneratorsConfigMapHolder customGeneratorsConfigMapHolder;
     private final Class<?> dtoType;
     private final Supplier<?> dtoInstanceSupplier;
+    private boolean cacheEnabled;
+    private Supplier<? extends RandomSource> randomSourceFactory;
+    private Long seed;
+    private Clock clock;
+    private final List<Object[]> settings = new ArrayList<>();
 
     DtoGeneratorBuilder(Class<T> dtoClass) {
         this(new DtoInstanceSupplier(dtoClass), dtoClass);
@@ -150,12 +160,25 @@ public class DtoGeneratorBuilder<T> {
      * @return {@link DtoGenerator} instance
      */
     public DtoGenerator<T> build() {
+        if (cacheEnabled && seed == null && dtoInstanceSupplier instanceof DtoInstanceSupplier) {
+            return DtoGeneratorsCache.getOrBuild(
+                    DtoGeneratorsCache.key(dtoType, settings, configuration),
+                    this::buildGenerator
+            );
+        }
+        return buildGenerator();
+    }
 
+    private DtoGenerator<T> buildGenerator() {
         FieldGeneratorsPreparer fieldGeneratorsPreparer = new FieldGeneratorsPreparer();
         fieldGeneratorsPreparer.prepareGenerators(dtoType, fieldGeneratorsProvider);
 
         return new DtoGenerator<>(
-                fieldGeneratorsPreparer.getFiledGenerators(), dtoInstanceSupplier
+                fieldGeneratorsPreparer.getFiledGenerators(),
+                dtoInstanceSupplier,
+                randomSourceFactory,
+                seed,
+                clock
         );
     }
 
@@ -176,6 +199,7 @@ public class DtoGeneratorBuilder<T> {
                                                    @NonNull Generator<? extends U> typeGenerator) {
 
         fieldGeneratorsProvider.setGenerator(generatedType, typeGenerator);
+        remember("setGenerator", generatedType, typeGenerator);
         return this;
     }
 
@@ -201,6 +225,7 @@ public class DtoGeneratorBuilder<T> {
                 .getBuilderLazy(fieldNameAndPath.getRight())
                 .getFieldGeneratorsProvider()
                 .setGeneratorForField(fieldNameAndPath.getLeft(), typeGenerator);
+        remember("setGenerator", fieldName, typeGenerator);
 
         return this;
     }
@@ -267,6 +292,7 @@ public class DtoGeneratorBuilder<T> {
     public <U> DtoGeneratorBuilder<T> setGeneratorConfig(@NonNull Class<U> generatedType,
                                                          @NonNull ConfigDto configDto) {
         fieldGeneratorsProvider.setGeneratorConfigForType(generatedType, configDto);
+        remember("setGeneratorConfig", generatedType, configDto);
         return this;
     }
 
@@ -289,6 +315,7 @@ public class DtoGeneratorBuilder<T> {
         dtoGeneratorBuildersTree.getBuilderLazy(fieldNameAndPath.getRight())
                 .getFieldGeneratorsProvider()
                 .setGeneratorConfigForField(fieldNameAndPath.getLeft(), generatorConfig);
+        remember("setGeneratorConfig", fieldName, generatorConfig);
         return this;
     }
 
@@ -315,6 +342,7 @@ public class DtoGeneratorBuilder<T> {
     public DtoGeneratorBuilder<T> setBoundary(@NonNull Boundary boundary) throws DtoGeneratorException {
 
         remarksHolder.setRuleRemarkForAnyField(boundary);
+        remember("setBoundary", boundary);
 
         return this;
     }
@@ -338,6 +366,7 @@ public class DtoGeneratorBuilder<T> {
         dtoGeneratorBuildersTree.getBuilderLazy(fieldNameAndPath.getRight())
                 .getRemarksHolder()
                 .setRuleRemarkForField(fieldNameAndPath.getLeft(), boundary);
+        remember("setBoundary", fieldName, boundary);
 
         return this;
     }
@@ -362,6 +391,7 @@ public class DtoGeneratorBuilder<T> {
                 customGeneratorClass,
                 args
         );
+        remember("setGeneratorArgs", customGeneratorClass, args);
         return this;
     }
 
@@ -384,6 +414,7 @@ public class DtoGeneratorBuilder<T> {
                 .getConfiguration()
                 .getCustomGeneratorsConfigurators()
                 .setArgs(fieldNameAndPath.getLeft(), args);
+        remember("setGeneratorArgs", fieldName, args);
         return this;
     }
 
@@ -409,6 +440,7 @@ public class DtoGeneratorBuilder<T> {
                 parameterName,
                 parameterValue
         );
+        remember("addGeneratorParameter", customGeneratorClass, parameterName, parameterValue);
 
         return this;
     }
@@ -459,6 +491,7 @@ public class DtoGeneratorBuilder<T> {
                 .getBuilderLazy(fieldNameAndPath.getRight())
                 .getCustomGeneratorsConfigMapHolder()
                 .addParameterForField(fieldNameAndPath.getLeft(), parameterName, parameterValue);
+        remember("addGeneratorParameter", fieldName, parameterName, parameterValue);
 
         return this;
     }
@@ -506,6 +539,7 @@ public class DtoGeneratorBuilder<T> {
             customGeneratorsConfigMapHolder
                     .addParameterForField(fieldNameAndPath.getLeft(), nameValuePairs[i], nameValuePairs[i + 1]);
         }
+        remember("addGeneratorParameters", fieldName, nameValuePairs);
 
         return this;
     }
@@ -528,6 +562,7 @@ public class DtoGeneratorBuilder<T> {
     public DtoGeneratorBuilder<T> includeGroups(String... groups) {
         if (groups != null && groups.length != 0) {
             fieldGeneratorsProvider.addGroups(groups);
+            remember("includeGroups", groups);
         }
         return this;
     }
@@ -544,6 +579,7 @@ public class DtoGeneratorBuilder<T> {
                 .getBuilderLazy(fieldNameAndPath.getRight())
                 .getFieldGeneratorsProvider()
                 .addFieldToIgnore(fieldNameAndPath.getLeft());
+        remember("ignoreField", fieldName);
 
         return this;
     }
@@ -573,4 +609,68 @@ public class DtoGeneratorBuilder<T> {
         configuration.getDtoGeneratorConfig().setGenerateAllKnownTypes(true);
         return this;
     }
+
+    /**
+     * Enables reusing of the generators built by the builders having the same settings,
+     * see {@link DtoGeneratorsCache}. Generators are shared, so user's generators passed to the builder
+     * have to be stateless or thread confined.
+     * <p>
+     * Builders of the passed DTO instance don't use the cache.
+     *
+     * @return this
+     */
+    public DtoGeneratorBuilder<T> enableCache() {
+        cacheEnabled = true;
+        return this;
+    }
+
+    /**
+     * Selects source of random values used by generators of this DTO generator.
+     * Factory is called once per thread generating DTOs, so created sources don't need to be thread safe.
+     * Built-in sources are listed in {@link RandomSources}, by default {@link RandomSources#THREAD_LOCAL_RANDOM} is used.
+     *
+     * @param randomSourceFactory factory of the random source
+     * @return this
+     */
+    public DtoGeneratorBuilder<T> randomSource(@NonNull Supplier<? extends RandomSource> randomSourceFactory) {
+        this.randomSourceFactory = randomSourceFactory;
+        remember("randomSource", randomSourceFactory);
+        return this;
+    }
+
+    /**
+     * Makes generation reproducible. Each generated DTO gets the index, starting from 0, and the values
+     * of the DTO depend only on the seed and the index, regardless of the number of threads generating DTOs.
+     * Each field draws from its own stream derived from the path of the field from the root DTO,
+     * so adding or removing of the field doesn't change values of other fields.
+     * <p>
+     * Seeded source replaces the source selected by {@link #randomSource(Supplier)}.
+     * Seeded generator counts generated DTOs, so it isn't shared via {@link DtoGeneratorsCache}.
+     * Date-time values depend on the current time, unless the fixed clock is set by {@link #clock(Clock)}.
+     *
+     * @param seed seed of the random values
+     * @return this
+     */
+    public DtoGeneratorBuilder<T> seed(long seed) {
+        this.seed = seed;
+        remember("seed", seed);
+        return this;
+    }
+
+    /**
+     * Sets the clock used by date-time generators to get the current time,
+     * by default system clock of the default time zone is used.
+     *
+     * @param clock clock, for example {@link Clock#fixed(java.time.Instant, java.time.ZoneId)}
+     * @return this
+     */
+    public DtoGeneratorBuilder<T> clock(@NonNull Clock clock) {
+        this.clock = clock;
+        remember("clock", clock);
+        return this;
+    }
+
+    private void remember(Object... setting) {
+        settings.add(setting);
+    }
 }
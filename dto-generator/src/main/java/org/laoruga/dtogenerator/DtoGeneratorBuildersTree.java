@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Tree for storing generators for nested DTOs.
@@ -67,10 +68,13 @@ public class DtoGeneratorBuildersTree {
     }
 
     private Node newNestedNode(String[] fields, int idx) {
-        Class<?> rootType = tree.dtoGeneratorBuilder
+        Supplier<?> rootDtoInstanceSupplier = tree.dtoGeneratorBuilder
                 .getFieldGeneratorsProvider()
-                .getDtoInstanceSupplier().get()
-                .getClass();
+                .getDtoInstanceSupplier();
+
+        Class<?> rootType = rootDtoInstanceSupplier instanceof DtoInstanceSupplier
+                ? ((DtoInstanceSupplier) rootDtoInstanceSupplier).getDtoClass()
+                : rootDtoInstanceSupplier.get().getClass();
 
         Class<?> nestedDtoType = ReflectionUtils.getFieldType(fields, 1, rootType);
 
@@ -0,0 +1,260 @@
+package org.laoruga.dtogenerator;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.laoruga.dtogenerator.config.Configuration;
+import org.laoruga.dtogenerator.config.dto.DtoGeneratorConfig;
+import org.laoruga.dtogenerator.config.dto.DtoGeneratorStaticConfig;
+import org.laoruga.dtogenerator.config.types.TypeGeneratorsConfigLazy;
+import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+import org.laoruga.dtogenerator.generator.config.dto.ConfigDto;
+import org.laoruga.dtogenerator.generator.config.dto.datetime.ChronoConfig;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Global bounded LRU cache of built {@link DtoGenerator} instances.
+ * <p>
+ * Built generator is immutable, so it may be reused by any number of the builders having the same settings.
+ * Builder uses the cache if it has been enabled via {@link DtoGeneratorBuilder#enableCache()}.
+ * Cache key consists of DTO class and fingerprint of the builder's settings: groups, ignored fields,
+ * boundaries, generators args and parameters, generators configs, instance and static configuration.
+ * Values are compared by equality, user's generators and suppliers - by identity.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public final class DtoGeneratorsCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final LruMap CACHE = new LruMap();
+    /**
+     * Counters are updated outside the lock of the cache.
+     */
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private static int maxSize = DEFAULT_MAX_SIZE;
+
+    private DtoGeneratorsCache() {
+    }
+
+    /**
+     * @return cache statistics snapshot
+     */
+    public static synchronized Statistics getStatistics() {
+        return new Statistics(HITS.sum(), MISSES.sum(), EVICTIONS.sum(), CACHE.size());
+    }
+
+    /**
+     * @param maxSize max number of cached generators, the least recently used generators are evicted first
+     */
+    public static synchronized void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new DtoGeneratorException("Max size of the cache has to be positive, but was: " + maxSize);
+        }
+        DtoGeneratorsCache.maxSize = maxSize;
+        Iterator<Key> keys = CACHE.keySet().iterator();
+        while (CACHE.size() > maxSize) {
+            keys.next();
+            keys.remove();
+            EVICTIONS.increment();
+        }
+    }
+
+    /**
+     * Evicts all generators of the DTO class.
+     *
+     * @param dtoClass DTO class
+     */
+    public static synchronized void evict(Class<?> dtoClass) {
+        CACHE.keySet().removeIf(key -> key.getDtoClass() == dtoClass);
+    }
+
+    /**
+     * Evicts all generators and resets statistics.
+     */
+    public static synchronized void clear() {
+        CACHE.clear();
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+    }
+
+    /**
+     * Returns cached generator or builds a new one, building is performed outside the lock.
+     *
+     * @param key       key of the generator
+     * @param generator builder of the generator
+     * @param <T>       DTO type
+     * @return cached or built generator
+     */
+    @SuppressWarnings("unchecked")
+    static <T> DtoGenerator<T> getOrBuild(Key key, Supplier<DtoGenerator<T>> generator) {
+        DtoGenerator<T> cached = (DtoGenerator<T>) get(key);
+        if (cached != null) {
+            return cached;
+        }
+        DtoGenerator<T> built = generator.get();
+        synchronized (DtoGeneratorsCache.class) {
+            return (DtoGenerator<T>) CACHE.computeIfAbsent(key, k -> built);
+        }
+    }
+
+    private static DtoGenerator<?> get(Key key) {
+        DtoGenerator<?> cached;
+        synchronized (DtoGeneratorsCache.class) {
+            cached = CACHE.get(key);
+        }
+        if (cached != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * @param dtoClass      DTO class
+     * @param settings      settings passed to the builder
+     * @param configuration configuration of the builder
+     * @return key of the generator
+     */
+    static Key key(Class<?> dtoClass, List<Object[]> settings, Configuration configuration) {
+        DtoGeneratorConfig dtoGeneratorConfig = configuration.getDtoGeneratorConfig();
+        List<Object> fingerprint = new ArrayList<>();
+        fingerprint.add(fingerprint(settings));
+        fingerprint.add(dtoGeneratorConfig.getMaxFailuresNumberDuringDtoGeneration());
+        fingerprint.add(dtoGeneratorConfig.getMaxCollectionGenerationCycles());
+        fingerprint.add(dtoGeneratorConfig.getGenerateAllKnownTypes());
+        fingerprint.add(dtoGeneratorConfig.getGenerateUsersTypes());
+        fingerprint.add(fingerprint(((TypeGeneratorsConfigLazy) configuration.getTypeGeneratorsConfig()).getConfigMap()));
+        fingerprint.add(fingerprint(((TypeGeneratorsConfigLazy) DtoGeneratorStaticConfig.getInstance()
+                .getTypeGeneratorsConfig()).getConfigMap()));
+        return new Key(dtoClass, fingerprint);
+    }
+
+    /**
+     * Converts the value to the comparable by equality value.
+     * Configs are converted field by field, values of unknown types are compared by identity.
+     */
+    private static Object fingerprint(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean ||
+                value instanceof Character || value instanceof Enum || value instanceof Class ||
+                value instanceof TemporalUnit || value instanceof TemporalField) {
+            return value;
+        }
+        if (value instanceof Object[]) {
+            return fingerprint(Arrays.asList((Object[]) value));
+        }
+        if (value instanceof Collection) {
+            List<Object> result = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                result.add(fingerprint(element));
+            }
+            return result;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> result = new HashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                result.put(fingerprint(entry.getKey()), fingerprint(entry.getValue()));
+            }
+            return result;
+        }
+        if (value instanceof ConfigDto || value instanceof ChronoConfig) {
+            List<Object> result = new ArrayList<>();
+            result.add(value.getClass());
+            for (Class<?> clazz = value.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        result.add(fingerprint(getFieldValue(field, value)));
+                    }
+                }
+            }
+            return result;
+        }
+        return new Identity(value);
+    }
+
+    private static Object getFieldValue(Field field, Object object) {
+        try {
+            field.setAccessible(true);
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new DtoGeneratorException("Failed to read config field: '" + field + "'", e);
+        }
+    }
+
+    /**
+     * Cache statistics.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static final class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    static final class Key {
+        private final Class<?> dtoClass;
+        private final List<Object> fingerprint;
+    }
+
+    /**
+     * Value compared by identity.
+     */
+    @AllArgsConstructor
+    private static final class Identity {
+        private final Object value;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity && ((Identity) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+
+    private static final class LruMap extends LinkedHashMap<Key, DtoGenerator<?>> {
+
+        LruMap() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, DtoGenerator<?>> eldest) {
+            if (size() > maxSize) {
+                EVICTIONS.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+}
@@ -1,35 +1,52 @@
 package org.laoruga.dtogenerator;
 
+import lombok.Getter;
+import org.laoruga.dtogenerator.util.DtoAccessorsUtils;
 import org.laoruga.dtogenerator.util.ReflectionUtils;
 
 import java.util.function.Supplier;
 
 /**
+ * Supplier of root or nested DTO instances.
+ * DTO instance being generated is kept in the {@link GenerationContext}, this supplier only creates
+ * new instances and resolves the instance from the context bound to the current thread.
+ *
  * @author Il'dar Valitov
  * Created on 11.12.2022
  */
 public class DtoInstanceSupplier implements Supplier<Object> {
 
-    private final ThreadLocal<Object> threadLocalDtoInstance = new ThreadLocal<>();
+    @Getter
     private final Class<?> dtoClass;
+    /**
+     * Generated accessors of the DTO class, if they are present, otherwise cached reflective instantiator.
+     */
+    private final Supplier<?> instantiator;
 
     public DtoInstanceSupplier(Class<?> dtoClass) {
         this.dtoClass = dtoClass;
+        this.instantiator = DtoAccessorsUtils.getAccessors(dtoClass)
+                .<Supplier<?>>map(accessors -> accessors::newInstance)
+                .orElseGet(() -> ReflectionUtils.getNoArgsInstantiator(dtoClass));
     }
 
+    /**
+     * @return DTO instance being generated, if generation context is bound to the current thread,
+     * otherwise new DTO instance
+     */
     @Override
     public Object get() {
-        if (threadLocalDtoInstance.get() == null) {
-            updateInstance();
+        GenerationContext context = GenerationContext.current();
+        if (context != null) {
+            return context.getDto(this);
         }
-        return threadLocalDtoInstance.get();
+        return createInstance();
     }
 
-    public void updateInstance() {
-        threadLocalDtoInstance.set(ReflectionUtils.createInstance(dtoClass));
-    }
-
-    public void remove() {
-        threadLocalDtoInstance.remove();
+    /**
+     * @return new DTO instance
+     */
+    public Object createInstance() {
+        return instantiator.get();
     }
 }
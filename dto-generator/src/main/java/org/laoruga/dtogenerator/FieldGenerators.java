@@ -6,7 +6,7 @@ import org.laoruga.dtogenerator.api.generators.Generator;
 import org.laoruga.dtogenerator.generator.NestedDtoGenerator;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -22,7 +22,7 @@ import java.util.stream.Collectors;
 @Getter
 public class FieldGenerators {
 
-    private final Map<Supplier<?>, GeneratorEntry> fieldGeneratorsMap = new HashMap<>();
+    private final Map<Supplier<?>, GeneratorEntry> fieldGeneratorsMap = new LinkedHashMap<>();
 
     private final List<NestedGeneratorEntry> nestedDtoGenerators = new LinkedList<>();
 
@@ -69,7 +69,7 @@ public class FieldGenerators {
     public void addGenerator(Field field,
                              Generator<?> generator,
                              Supplier<?> dtoInstanceSupplier) {
-        fieldGeneratorsMap.putIfAbsent(dtoInstanceSupplier, new GeneratorEntry(dtoInstanceSupplier, new HashMap<>()));
+        fieldGeneratorsMap.putIfAbsent(dtoInstanceSupplier, new GeneratorEntry(dtoInstanceSupplier, new LinkedHashMap<>()));
         fieldGeneratorsMap.get(dtoInstanceSupplier).getFieldGeneratorMap().put(field, generator);
     }
 
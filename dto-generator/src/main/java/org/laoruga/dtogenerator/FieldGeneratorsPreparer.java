@@ -6,10 +6,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.laoruga.dtogenerator.api.generators.Generator;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
 import org.laoruga.dtogenerator.generator.NestedDtoGenerator;
+import org.laoruga.dtogenerator.util.ClassMetadata;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -33,7 +33,7 @@ public class FieldGeneratorsPreparer {
     void prepareGenerators(Class<?> dtoClass,
                            FieldGeneratorsProvider fieldGeneratorsProvider) {
 
-        prepareGenerators(dtoClass, fieldGeneratorsProvider, new HashMap<>());
+        prepareGenerators(dtoClass, fieldGeneratorsProvider, new LinkedHashMap<>());
 
         if (!errorsHolder.isEmpty()) {
             throw new DtoGeneratorException("'" + errorsHolder.getErrorsNumber() + "'" +
@@ -51,21 +51,12 @@ public class FieldGeneratorsPreparer {
 
         filedGenerators.addGenerator(dtoInstanceSupplier, generatorMap);
 
-        if (dtoClass.getSuperclass() != null && dtoClass.getSuperclass() != Object.class) {
-            prepareGenerators(dtoClass.getSuperclass(), fieldGeneratorsProvider, generatorMap);
-        }
-
-        for (Field field : dtoClass.getDeclaredFields()) {
-
-            if (Modifier.isFinal(field.getModifiers())) {
-                log.info("Skipping final field '" + field.getType() + " " + field.getName() + "'");
-                continue;
-            }
+        for (Field field : ClassMetadata.of(dtoClass).getWritableFields()) {
 
             Optional<Generator<?>> maybeGenerator = Optional.empty();
 
             try {
-                maybeGenerator = fieldGeneratorsProvider.getGenerator(field);
+                maybeGenerator = fieldGeneratorsProvider.getGenerator(field, dtoClass);
             } catch (Exception e) {
                 errorsHolder.put(field, e);
             }
@@ -102,7 +93,7 @@ public class FieldGeneratorsPreparer {
         prepareGenerators(
                 field.getType(),
                 nestedFieldGeneratorsProvider,
-                new HashMap<>()
+                new LinkedHashMap<>()
         );
     }
 
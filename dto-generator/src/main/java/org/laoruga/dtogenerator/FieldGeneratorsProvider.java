@@ -14,6 +14,7 @@ import org.laoruga.dtogenerator.generator.providers.GeneratorProvidersMediator;
 import org.laoruga.dtogenerator.generator.providers.suppliers.UserGeneratorSuppliers;
 import org.laoruga.dtogenerator.rule.RuleInfo;
 import org.laoruga.dtogenerator.rule.RulesInfoExtractor;
+import org.laoruga.dtogenerator.util.GenericTypes;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
@@ -97,7 +98,8 @@ public class FieldGeneratorsProvider {
     /**
      * Returns generator instance for the field value generation.
      *
-     * @param field - validated field
+     * @param field    - validated field
+     * @param dtoClass - DTO class containing the field, generic types of the field are resolved in its context
      * @return empty optional if:
      * - no rules annotations found
      * - rules annotations skipped by group
@@ -105,7 +107,7 @@ public class FieldGeneratorsProvider {
      * else generator instance
      */
     @SuppressWarnings("unchecked")
-    Optional<Generator<?>> getGenerator(Field field) {
+    Optional<Generator<?>> getGenerator(Field field, Class<?> dtoClass) {
 
         final String fieldName = field.getName();
 
@@ -136,7 +138,7 @@ public class FieldGeneratorsProvider {
             return Optional.of(generatorForField);
         }
 
-        Optional<RuleInfo> maybeRulesInfo = getRuleInfo(field);
+        Optional<RuleInfo> maybeRulesInfo = getRuleInfo(field, dtoClass);
 
         // if field annotated with rules
         if (maybeRulesInfo.isPresent()) {
@@ -151,7 +153,7 @@ public class FieldGeneratorsProvider {
         // if there needs to generate any known type
         // attempt to generate value using field type
         if (generatorConfig.getGenerateAllKnownTypes()) {
-            return generatorProvidersMediator.getGeneratorByType(field, fieldType);
+            return generatorProvidersMediator.getGeneratorByType(field, GenericTypes.getFieldType(field, dtoClass));
         }
 
         // if there needs to generate user's type only
@@ -196,9 +198,9 @@ public class FieldGeneratorsProvider {
         };
     }
 
-    private Optional<RuleInfo> getRuleInfo(Field field) {
+    private Optional<RuleInfo> getRuleInfo(Field field, Class<?> dtoClass) {
         try {
-            return rulesInfoExtractor.extractRulesInfo(field);
+            return rulesInfoExtractor.extractRulesInfo(field, dtoClass);
         } catch (Exception e) {
             throw new DtoGeneratorException("Error while extracting rule annotations from the field: '"
                     + field.getType() + " " + field.getName() + "'", e);
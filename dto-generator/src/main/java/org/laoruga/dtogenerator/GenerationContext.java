@@ -0,0 +1,125 @@
+package org.laoruga.dtogenerator;
+
+import org.laoruga.dtogenerator.api.RandomSource;
+import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent;
+import org.laoruga.dtogenerator.util.random.ThreadLocalRandomSource;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * State of generation of the single root DTO: root DTO instance, instances of nested DTOs,
+ * random source and clock selected for DTO generator.
+ * <p>
+ * Context is created per generated root DTO and is passed explicitly through the executors,
+ * so generation of different DTOs doesn't share any state and may be handed between threads.
+ * Every DTO instance has a slot, assigned once, when execution plan is compiled,
+ * root DTO is kept in the {@link GenerationContext#ROOT_SLOT}.
+ * <p>
+ * DTO dependent generators receive DTO via supplier {@link CustomGeneratorDtoDependent#setDtoSupplier(Supplier)},
+ * and generators take random values and current time via static utils, so context is bound to the current thread
+ * while DTO is generated, see {@link GenerationContext#current()}. Context isn't bound, if it isn't required:
+ * when there are no DTO dependent generators, and default random source and clock are used.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public final class GenerationContext {
+
+    public static final int ROOT_SLOT = 0;
+
+    private static final ThreadLocal<GenerationContext> BOUND_CONTEXT = new ThreadLocal<>();
+
+    private final Object[] dtoInstances;
+    private final Map<Supplier<?>, Integer> slotsByDtoInstanceSupplier;
+    private final RandomSource randomSource;
+    /**
+     * Clock of date-time generators, null if the system clock is used.
+     */
+    private final Clock clock;
+
+    /**
+     * @param rootDtoInstance            root DTO instance
+     * @param slotsNumber                number of DTO instances: root and nested
+     * @param slotsByDtoInstanceSupplier slots of nested DTO instances by their suppliers,
+     *                                   other suppliers are considered as suppliers of root DTO
+     * @param randomSource               random source of the current thread or null, if default source is used
+     * @param clock                      clock or null, if system clock is used
+     */
+    public GenerationContext(Object rootDtoInstance, int slotsNumber, Map<Supplier<?>, Integer> slotsByDtoInstanceSupplier,
+                             RandomSource randomSource, Clock clock) {
+        this.dtoInstances = new Object[slotsNumber];
+        this.dtoInstances[ROOT_SLOT] = rootDtoInstance;
+        this.slotsByDtoInstanceSupplier = slotsByDtoInstanceSupplier;
+        this.randomSource = randomSource != null ? randomSource : ThreadLocalRandomSource.INSTANCE;
+        this.clock = clock;
+    }
+
+    public Object getRootDto() {
+        return dtoInstances[ROOT_SLOT];
+    }
+
+    public Object getDto(int slot) {
+        return dtoInstances[slot];
+    }
+
+    public void setDto(int slot, Object dtoInstance) {
+        dtoInstances[slot] = dtoInstance;
+    }
+
+    /**
+     * @param dtoInstanceSupplier supplier of root or nested DTO instance
+     * @return DTO instance of this context, provided by the supplier
+     */
+    public Object getDto(Supplier<?> dtoInstanceSupplier) {
+        return dtoInstances[slotsByDtoInstanceSupplier.getOrDefault(dtoInstanceSupplier, ROOT_SLOT)];
+    }
+
+    /**
+     * @return context bound to the current thread during generation of DTO, or null
+     */
+    public static GenerationContext current() {
+        return BOUND_CONTEXT.get();
+    }
+
+    /**
+     * @return random source of the context bound to the current thread or default one
+     */
+    public static RandomSource currentRandomSource() {
+        GenerationContext context = BOUND_CONTEXT.get();
+        return context != null ? context.randomSource : ThreadLocalRandomSource.INSTANCE;
+    }
+
+    /**
+     * @return clock of the context bound to the current thread or system clock in the default time-zone
+     */
+    public static Clock currentClock() {
+        GenerationContext context = BOUND_CONTEXT.get();
+        return context != null && context.clock != null ? context.clock : Clock.systemDefaultZone();
+    }
+
+    /**
+     * Binds the context to the current thread.
+     *
+     * @param context context to bind
+     * @return previously bound context, which has to be restored via {@link GenerationContext#restore(GenerationContext)}
+     */
+    public static GenerationContext bind(GenerationContext context) {
+        GenerationContext previous = BOUND_CONTEXT.get();
+        BOUND_CONTEXT.set(context);
+        return previous;
+    }
+
+    /**
+     * @param previous context returned by {@link GenerationContext#bind(GenerationContext)}
+     */
+    public static void restore(GenerationContext previous) {
+        if (previous == null) {
+            BOUND_CONTEXT.remove();
+        } else {
+            BOUND_CONTEXT.set(previous);
+        }
+    }
+
+}
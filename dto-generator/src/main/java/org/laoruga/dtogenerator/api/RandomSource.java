@@ -0,0 +1,113 @@
+package org.laoruga.dtogenerator.api;
+
+/**
+ * Source of random values used by all the generators via {@link org.laoruga.dtogenerator.util.RandomUtils}.
+ * <p>
+ * Source is selected per DTO generator, see {@code DtoGeneratorBuilder#randomSource(Supplier)}.
+ * The selected factory is called once per thread generating DTOs, so implementations don't need
+ * to be thread safe. Only {@link #nextLong()} is required, other values are derived from it.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public interface RandomSource {
+
+    /**
+     * @return uniformly distributed 64 random bits
+     */
+    long nextLong();
+
+    /**
+     * @return uniformly distributed 32 random bits
+     */
+    default int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * @param bound upper bound exclusive, must be positive
+     * @return uniformly distributed value in the range [0, bound)
+     */
+    default int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive, but was: " + bound);
+        }
+        return (int) nextLong(bound);
+    }
+
+    /**
+     * @param bound upper bound exclusive, must be positive
+     * @return uniformly distributed value in the range [0, bound)
+     */
+    default long nextLong(long bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive, but was: " + bound);
+        }
+        long mask = bound - 1;
+        if ((bound & mask) == 0) {
+            return nextLong() & mask;
+        }
+        if (bound <= 0xFFFFFFFFL) {
+            // Lemire's nearly divisionless method: high 32 bits of the product are the value,
+            // division is needed only when low bits fall into the rare range, which may be rejected
+            long product = (nextInt() & 0xFFFFFFFFL) * bound;
+            long low = product & 0xFFFFFFFFL;
+            if (low < bound) {
+                long threshold = (0x100000000L - bound) % bound;
+                while (low < threshold) {
+                    product = (nextInt() & 0xFFFFFFFFL) * bound;
+                    low = product & 0xFFFFFFFFL;
+                }
+            }
+            return product >>> 32;
+        }
+        // rejection of the values from the incomplete last interval keeps the distribution uniform
+        long bits;
+        long value;
+        do {
+            bits = nextLong() >>> 1;
+            value = bits % bound;
+        } while (bits - value + mask < 0);
+        return value;
+    }
+
+    /**
+     * @param origin min value inclusive
+     * @param bound  max value exclusive, must be greater than origin
+     * @return uniformly distributed value in the range [origin, bound)
+     */
+    default long nextLong(long origin, long bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException("Bound '" + bound + "' must be greater than origin '" + origin + "'");
+        }
+        long range = bound - origin;
+        if (range > 0) {
+            return origin + nextLong(range);
+        }
+        // range overflows long, values out of the range are rejected
+        long value;
+        do {
+            value = nextLong();
+        } while (value < origin || value >= bound);
+        return value;
+    }
+
+    /**
+     * @return uniformly distributed value in the range [0, 1)
+     */
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * @return uniformly distributed value in the range [0, 1)
+     */
+    default float nextFloat() {
+        return (nextInt() >>> 8) * 0x1.0p-24f;
+    }
+
+    default boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.laoruga.dtogenerator.api.accessors;
+
+/**
+ * Plain-Java accessors of DTO class, generated at compile time by the 'dto-generator-processor'
+ * annotation processor for classes containing fields annotated with rules.
+ * <p>
+ * Generated class is placed into the package of the DTO and is named as binary name of the DTO class
+ * with {@link #CLASS_NAME_SUFFIX}. When it is present, DTO instances are created and fields are set
+ * without reflection, otherwise reflection is used.
+ *
+ * @param <T> type of DTO
+ * @author agent
+ * Created on 18.10.2026
+ */
+public interface DtoAccessors<T> {
+
+    String CLASS_NAME_SUFFIX = "$DtoAccessors";
+
+    /**
+     * @return new DTO instance, created via no-args constructor, or via reflection,
+     * if DTO class has no no-args constructor accessible from its package
+     */
+    T newInstance();
+
+    /**
+     * @param fieldName name of the field declared in DTO class
+     * @return setter of the field or null, if the field isn't accessible from the package of DTO,
+     * for example, if it is private or final
+     */
+    FieldSetter getFieldSetter(String fieldName);
+
+}
@@ -0,0 +1,20 @@
+package org.laoruga.dtogenerator.api.accessors;
+
+/**
+ * Setter of DTO field, generated at compile time.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@FunctionalInterface
+public interface FieldSetter {
+
+    /**
+     * @param dtoInstance DTO instance, which field is set
+     * @param value       value to set
+     * @throws ClassCastException   if the value can't be assigned to the field
+     * @throws NullPointerException if null value is set to the primitive field
+     */
+    void set(Object dtoInstance, Object value);
+
+}
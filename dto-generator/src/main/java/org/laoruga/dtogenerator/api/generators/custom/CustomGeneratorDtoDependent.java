@@ -6,10 +6,17 @@ import java.util.function.Supplier;
  * Custom generators based on this interface are able to have a reference to DTO instance,
  * which makes it possible to use data from DTO instance in custom generator logic.
  * <p>
+ * Required to this generator DTO fields may be declared via {@link CustomGeneratorDtoDependent#dependsOn()}
+ * or {@link org.laoruga.dtogenerator.api.rules.CustomRule#dependsOn() CustomRule#dependsOn()}.
+ * In this case, generator is executed exactly once, right after the generators of the declared fields,
+ * and {@link CustomGeneratorDtoDependent#isDtoReady()} isn't called.
+ * <p>
+ * Otherwise, DTO dependent generators are executed after all other generators of the DTO.
  * Implementation of method {@link CustomGeneratorDtoDependent#isDtoReady()} have to check
- * if required to this generator DTO fields have been already generated by other generators.
- * Generator executes when this method returns 'true', otherwise execution will be delayed until all others
- * generators will have been executed. Because the order of generators execution is not guaranteed.
+ * if required to this generator DTO fields have been already generated by other generators,
+ * for example, by other DTO dependent generators, which order of execution is not guaranteed.
+ * Generator executes when this method returns 'true', otherwise execution will be delayed
+ * until other DTO dependent generators will have been executed.
  * <p>
  * Configuration parameter 'maxFailuresNumberDuringDtoGeneration', among other causes of failures,
  * is used to define max number of 'false' results returned by {@link CustomGeneratorDtoDependent#isDtoReady()}.
@@ -22,6 +29,8 @@ public interface CustomGeneratorDtoDependent<T, V> extends CustomGenerator<T> {
 
     /**
      * Injects DTO instance supplier.
+     * Supplier provides DTO instance being generated only while {@link CustomGeneratorDtoDependent#isDtoReady()}
+     * and {@link CustomGeneratorDtoDependent#generate()} are executed, so it has to be called from these methods.
      *
      * @param generatedDto generated DTO instance supplier
      */
@@ -37,4 +46,15 @@ public interface CustomGeneratorDtoDependent<T, V> extends CustomGenerator<T> {
      * false - otherwise
      */
     boolean isDtoReady();
+
+    /**
+     * Declares DTO fields required to this generator. Fields are addressed from the DTO passed
+     * to {@link CustomGeneratorDtoDependent#setDtoSupplier(Supplier)}, fields of nested DTOs
+     * are separated by dots, for example: {@code "lot"}, {@code "nestedDto.lot"}.
+     *
+     * @return names of required fields or empty array, if dependencies aren't declared
+     */
+    default String[] dependsOn() {
+        return new String[0];
+    }
 }
@@ -0,0 +1,28 @@
+package org.laoruga.dtogenerator.api.generators.custom;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks stateful custom generators, which aren't thread safe, for example, counters or buffered readers.
+ * <p>
+ * By default, single instance of custom generator is created for the field and is shared by all the threads
+ * generating DTOs. For the generators marked with this annotation, separate instance is created and configured
+ * for each thread generating DTOs, so parallel generation doesn't require locking inside the generator.
+ * State of the generator is kept between DTOs generated by the same thread.
+ * <p>
+ * Applies to the custom generators created by DTO generator, for example, via
+ * {@link org.laoruga.dtogenerator.api.rules.CustomRule CustomRule}.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ThreadConfined {
+}
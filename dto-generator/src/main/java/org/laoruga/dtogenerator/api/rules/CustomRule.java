@@ -69,4 +69,15 @@ public @interface CustomRule {
      * @see Boundary
      */
     Boundary boundary() default Boundary.NOT_DEFINED;
+
+    /**
+     * You may declare DTO fields required to the generator if it implements
+     * {@link org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent CustomGeneratorDtoDependent}
+     * interface. Overrides fields returned by the generator's method
+     * {@link org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent#dependsOn() dependsOn()}.
+     *
+     * @return names of the fields which have to be generated before the field annotated with this rule,
+     * fields of nested DTOs are separated by dots
+     */
+    String[] dependsOn() default {};
 }
@@ -28,7 +28,7 @@ public final class DtoGeneratorStaticConfig {
         );
     }
 
-    public synchronized static Configuration getInstance() {
+    public static Configuration getInstance() {
         return INSTANCE;
     }
 
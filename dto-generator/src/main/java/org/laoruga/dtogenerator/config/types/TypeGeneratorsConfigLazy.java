@@ -1,8 +1,6 @@
 package org.laoruga.dtogenerator.config.types;
 
 import com.google.common.primitives.Primitives;
-import lombok.AccessLevel;
-import lombok.Getter;
 import org.laoruga.dtogenerator.api.rules.DecimalRule;
 import org.laoruga.dtogenerator.api.rules.EnumRule;
 import org.laoruga.dtogenerator.api.rules.IntegralRule;
@@ -13,10 +11,15 @@ import org.laoruga.dtogenerator.generator.config.dto.datetime.DateTimeConfig;
 
 import java.time.temporal.Temporal;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
  * Provides lazy getters of config instances containing default configuration (default values from annotations).
+ * <p>
+ * Instance is thread safe, so the static config may be read by builders while it is changed by other threads.
+ * Configs are merged into generators' own config instances when generators are built,
+ * so changes made afterwards don't affect already built generators.
  *
  * @author Il'dar Valitov
  * Created on 29.11.2022
@@ -25,16 +28,32 @@ import java.util.function.Supplier;
 
 public class TypeGeneratorsConfigLazy implements TypeGeneratorsConfigSupplier {
 
-    @Getter(AccessLevel.PACKAGE)
-    private final Map<Class<?>, ConfigDto> configMap = new HashMap<>();
+    private final Map<Class<?>, ConfigDto> configMap = new ConcurrentHashMap<>();
+
+    /**
+     * Memoized results of {@link #getOrNull(Class)}, replaced on any change of the config map,
+     * because a new config may be assignable from the types resolved earlier.
+     */
+    private volatile Map<Class<?>, Optional<ConfigDto>> configByGeneratedType = new ConcurrentHashMap<>();
+
+    /**
+     * @return unmodifiable view of the configs by generated types
+     */
+    public Map<Class<?>, ConfigDto> getConfigMap() {
+        return Collections.unmodifiableMap(configMap);
+    }
 
     /**
      * @param generatedType field type for which the value is supposed to be generated
      * @return config instance or null if there is no config found according to the given classes
      */
     public ConfigDto getOrNull(Class<?> generatedType) {
+        return configByGeneratedType
+                .computeIfAbsent(Primitives.wrap(generatedType), type -> Optional.ofNullable(findOrNull(type)))
+                .orElse(null);
+    }
 
-        generatedType = Primitives.wrap(generatedType);
+    private ConfigDto findOrNull(Class<?> generatedType) {
 
         if (configMap.containsKey(generatedType)) {
             return configMap.get(generatedType);
@@ -120,11 +139,19 @@ public class TypeGeneratorsConfigLazy implements TypeGeneratorsConfigSupplier {
 
     private ConfigDto getConfigLazy(Class<?> generatedType,
                                     Supplier<ConfigDto> configSupplier) {
-        if (!configMap.containsKey(generatedType)) {
-            configMap.put(generatedType, configSupplier.get());
+        ConfigDto configDto = configMap.get(generatedType);
+        if (configDto != null) {
+            return configDto;
+        }
+
+        configDto = configSupplier.get();
+        ConfigDto existingConfig = configMap.putIfAbsent(generatedType, configDto);
+        if (existingConfig != null) {
+            return existingConfig;
         }
+        invalidate();
 
-        return configMap.get(generatedType);
+        return configDto;
     }
 
     private ConfigDto getConfigLazy(Class<?>[] generatedTypes,
@@ -132,8 +159,8 @@ public class TypeGeneratorsConfigLazy implements TypeGeneratorsConfigSupplier {
         ConfigDto configDto = configSupplier.get();
 
         for (Class<?> generatedType : generatedTypes) {
-            if (!configMap.containsKey(generatedType)) {
-                configMap.putIfAbsent(generatedType, configDto);
+            if (configMap.putIfAbsent(generatedType, configDto) == null) {
+                invalidate();
             }
         }
 
@@ -141,11 +168,15 @@ public class TypeGeneratorsConfigLazy implements TypeGeneratorsConfigSupplier {
     }
 
     public void setGeneratorConfigForType(Class<?> generatedType, ConfigDto generatorConfig) {
-        if (configMap.containsKey(generatedType)) {
+        if (configMap.putIfAbsent(generatedType, generatorConfig) != null) {
             throw new DtoGeneratorException("Generator config '" + generatorConfig.getClass() +
                     "' already has been set explicitly for type: '" + generatedType + "'");
         }
-        configMap.put(generatedType, generatorConfig);
+        invalidate();
+    }
+
+    private void invalidate() {
+        configByGeneratedType = new ConcurrentHashMap<>();
     }
 
 }
@@ -84,7 +84,22 @@ public final class TypeGeneratorsDefaultConfigSupplier {
         GENERATED_TYPE_TO_DEFAULT_CONFIG_NEW_INSTANCE_SUPPLIER = ImmutableMap.copyOf(configSupplier);
     }
 
+    /**
+     * Memoized default config suppliers of the generated types.
+     */
+    private static final ClassValue<Optional<Supplier<ConfigDto>>> DEFAULT_CONFIG_SUPPLIER_BY_TYPE =
+            new ClassValue<Optional<Supplier<ConfigDto>>>() {
+                @Override
+                protected Optional<Supplier<ConfigDto>> computeValue(Class<?> generatedType) {
+                    return findDefaultConfigSupplier(generatedType);
+                }
+            };
+
     public static Optional<Supplier<ConfigDto>> getDefaultConfigSupplier(Class<?> generatedType) {
+        return DEFAULT_CONFIG_SUPPLIER_BY_TYPE.get(generatedType);
+    }
+
+    private static Optional<Supplier<ConfigDto>> findDefaultConfigSupplier(Class<?> generatedType) {
 
         if (!GENERATED_TYPE_TO_DEFAULT_CONFIG_NEW_INSTANCE_SUPPLIER.containsKey(generatedType)) {
 
@@ -34,12 +34,27 @@ public class GeneratedTypes {
         GENERATED_TYPES = ImmutableMap.copyOf(generatedTypes);
     }
 
+    /**
+     * Memoized rules classes of the generated types, the set of rules is immutable, so entries are never invalidated.
+     */
+    private static final ClassValue<Optional<Class<? extends Annotation>>> RULES_CLASS_BY_TYPE =
+            new ClassValue<Optional<Class<? extends Annotation>>>() {
+                @Override
+                protected Optional<Class<? extends Annotation>> computeValue(Class<?> requiredType) {
+                    return findRulesClass(requiredType);
+                }
+            };
+
     public static Class<?>[] get(Class<? extends Annotation> rules) {
         return Objects.requireNonNull(GENERATED_TYPES.get(rules),
                 "Generated types wasn't added for rule: '" + rules + "'");
     }
 
     public static Optional<Class<? extends Annotation>> getRulesClass(final Class<?> requiredType) {
+        return RULES_CLASS_BY_TYPE.get(requiredType);
+    }
+
+    private static Optional<Class<? extends Annotation>> findRulesClass(final Class<?> requiredType) {
         return GENERATED_TYPES.entrySet().stream()
                 .filter(e -> e.getKey() != CustomRule.class && e.getKey() != NestedDtoRule.class)
                 .filter(e -> isAssignableFrom(e.getValue(), requiredType))
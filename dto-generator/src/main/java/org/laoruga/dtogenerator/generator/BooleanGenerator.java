@@ -35,7 +35,7 @@ public class BooleanGenerator implements Generator<Boolean> {
 
             case RANDOM_VALUE:
             case NOT_DEFINED:
-                return RandomUtils.RANDOM.nextDouble() < trueProbability;
+                return RandomUtils.nextDouble() < trueProbability;
 
             case NULL_VALUE:
                 return null;
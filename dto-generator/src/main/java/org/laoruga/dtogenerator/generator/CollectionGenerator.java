@@ -27,6 +27,10 @@ public class CollectionGenerator implements ListGenerator {
     private final Supplier<Collection<Object>> collectionInstanceSupplier;
     private final Generator<Object> elementGenerator;
     private final RuleRemark ruleRemark;
+    /**
+     * Max number of attempts to add an element, captured from the static config when the generator is built
+     */
+    private final int maxAttempts;
 
     @SuppressWarnings("unchecked")
     public CollectionGenerator(CollectionConfig collectionConfig) {
@@ -35,12 +39,12 @@ public class CollectionGenerator implements ListGenerator {
         collectionInstanceSupplier = (Supplier<Collection<Object>>) Objects.requireNonNull(collectionConfig.getCollectionInstanceSupplier(), "Collection instance must be set.");
         elementGenerator = (Generator<Object>) Objects.requireNonNull(collectionConfig.getElementGenerator(), "Collection element generator must be set");
         ruleRemark = Objects.requireNonNull(collectionConfig.getRuleRemark(), "Unexpected error, rule remark haven't set.");
+        maxAttempts = DtoGeneratorStaticConfig.getInstance().getDtoGeneratorConfig().getMaxCollectionGenerationCycles();
     }
 
     @Override
     public Collection<Object> generate() {
         Collection<Object> collectionInstance = collectionInstanceSupplier.get();
-        int maxAttempts = DtoGeneratorStaticConfig.getInstance().getDtoGeneratorConfig().getMaxCollectionGenerationCycles();
         int size;
         switch ((Boundary) ruleRemark) {
 
@@ -0,0 +1,43 @@
+package org.laoruga.dtogenerator.generator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent;
+
+import java.util.function.Supplier;
+
+/**
+ * Overrides dependencies of user's DTO dependent generator
+ * by the fields declared via {@link org.laoruga.dtogenerator.api.rules.CustomRule#dependsOn()}.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@AllArgsConstructor
+public class CustomGeneratorDtoDependentWrapper<T, V> implements CustomGeneratorDtoDependent<T, V> {
+
+    @Getter
+    private final CustomGeneratorDtoDependent<T, V> usersGeneratorInstance;
+    private final String[] dependsOn;
+
+    @Override
+    public T generate() {
+        return usersGeneratorInstance.generate();
+    }
+
+    @Override
+    public void setDtoSupplier(Supplier<V> generatedDto) {
+        usersGeneratorInstance.setDtoSupplier(generatedDto);
+    }
+
+    @Override
+    public boolean isDtoReady() {
+        return usersGeneratorInstance.isDtoReady();
+    }
+
+    @Override
+    public String[] dependsOn() {
+        return dependsOn.clone();
+    }
+
+}
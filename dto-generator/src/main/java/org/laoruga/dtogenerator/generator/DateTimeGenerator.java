@@ -1,14 +1,21 @@
 package org.laoruga.dtogenerator.generator;
 
 import lombok.AllArgsConstructor;
+import org.laoruga.dtogenerator.GenerationContext;
 import org.laoruga.dtogenerator.api.RuleRemark;
 import org.laoruga.dtogenerator.api.generators.Generator;
+import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
 import org.laoruga.dtogenerator.generator.config.dto.datetime.ChronoConfig;
 import org.laoruga.dtogenerator.generator.config.dto.datetime.DateTimeConfig;
 import org.laoruga.dtogenerator.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Clock;
 import java.time.temporal.Temporal;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * @author Il'dar Valitov
@@ -18,26 +25,62 @@ import java.util.List;
 @AllArgsConstructor
 public class DateTimeGenerator implements Generator<Temporal> {
 
+    /**
+     * Functions returning current date-time of the temporal types, resolved once per type.
+     */
+    private static final ClassValue<Function<Clock, Temporal>> NOW = new ClassValue<Function<Clock, Temporal>>() {
+        @Override
+        protected Function<Clock, Temporal> computeValue(Class<?> type) {
+            return resolveNow(type);
+        }
+    };
+
     private final List<ChronoConfig> chronoUnitConfigList;
     private final RuleRemark ruleRemark;
     private final Class<? extends Temporal> generatedType;
+    private final Function<Clock, Temporal> now;
 
     public DateTimeGenerator(DateTimeConfig config) {
         chronoUnitConfigList = config.getChronoUnitConfigList();
         ruleRemark = config.getRuleRemark();
         generatedType = config.getGeneratedType();
+        now = NOW.get(generatedType);
     }
 
     @Override
     public Temporal generate() {
-        Temporal now = ReflectionUtils.callStaticMethod("now", generatedType, Temporal.class);
+        Temporal generated = now.apply(GenerationContext.currentClock());
 
         if (chronoUnitConfigList != null) {
             for (ChronoConfig chronoUnitConfig : chronoUnitConfigList) {
-                now = chronoUnitConfig.adjust(now, ruleRemark);
+                generated = chronoUnitConfig.adjust(generated, ruleRemark);
             }
         }
 
-        return now;
+        return generated;
+    }
+
+    /**
+     * @param type temporal type
+     * @return function invoking static method {@code now(Clock)} of the type, if it exists,
+     * otherwise function invoking static method {@code now()}, which ignores the clock
+     */
+    private static Function<Clock, Temporal> resolveNow(Class<?> type) {
+        MethodHandle nowWithClock;
+        try {
+            nowWithClock = MethodHandles.publicLookup()
+                    .findStatic(type, "now", MethodType.methodType(type, Clock.class))
+                    .asType(MethodType.methodType(Temporal.class, Clock.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return clock -> ReflectionUtils.callStaticMethod("now", type, Temporal.class);
+        }
+        return clock -> {
+            try {
+                return (Temporal) nowWithClock.invokeExact(clock);
+            } catch (Throwable e) {
+                throw new DtoGeneratorException("Error during invocation of static method: 'now(Clock)'" +
+                        " of class: '" + type.getName() + "'", e);
+            }
+        };
     }
 }
@@ -28,6 +28,10 @@ public class MapGenerator implements Generator<Map<Object, Object>> {
     private Generator<Object> keyGenerator;
     private Generator<Object> valueGenerator;
     private RuleRemark ruleRemark;
+    /**
+     * Max number of attempts to add an entry, captured from the static config when the generator is built
+     */
+    private int maxAttempts;
 
     public MapGenerator(MapConfig config) {
         minSize = config.getMinSize();
@@ -36,13 +40,13 @@ public class MapGenerator implements Generator<Map<Object, Object>> {
         keyGenerator = Objects.requireNonNull(config.getKeyGenerator(), "Key generator must be set.");
         valueGenerator = Objects.requireNonNull(config.getValueGenerator(), "Value generator must be set.");
         ruleRemark = Objects.requireNonNull(config.getRuleRemark(), "Unexpected error, rule remark haven't set.");
+        maxAttempts = DtoGeneratorStaticConfig.getInstance().getDtoGeneratorConfig().getMaxCollectionGenerationCycles();
     }
 
     @Override
     public Map<Object, Object> generate() {
         Map<Object, Object> mapInstance = mapInstanceSupplier.get();
 
-        int maxAttempts = DtoGeneratorStaticConfig.getInstance().getDtoGeneratorConfig().getMaxCollectionGenerationCycles();
         int size;
 
         switch ((Boundary) ruleRemark) {
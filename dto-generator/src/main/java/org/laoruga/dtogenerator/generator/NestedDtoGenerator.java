@@ -48,7 +48,7 @@ public class NestedDtoGenerator implements Generator<Object> {
                 .getFieldGeneratorsProvider()
                 .getDtoInstanceSupplier();
         if (dtoInstanceSupplier instanceof DtoInstanceSupplier) {
-            ((DtoInstanceSupplier) dtoInstanceSupplier).updateInstance();
+            return ((DtoInstanceSupplier) dtoInstanceSupplier).createInstance();
         }
         return dtoInstanceSupplier.get();
     }
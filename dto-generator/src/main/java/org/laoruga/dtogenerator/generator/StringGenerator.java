@@ -1,7 +1,6 @@
 package org.laoruga.dtogenerator.generator;
 
 import com.mifmif.common.regex.Generex;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.laoruga.dtogenerator.api.RuleRemark;
 import org.laoruga.dtogenerator.api.generators.Generator;
@@ -9,6 +8,7 @@ import org.laoruga.dtogenerator.constants.Boundary;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
 import org.laoruga.dtogenerator.generator.config.dto.StringConfig;
 import org.laoruga.dtogenerator.util.RandomUtils;
+import org.laoruga.dtogenerator.util.random.CharsetSampler;
 
 import java.util.Objects;
 
@@ -17,7 +17,6 @@ import java.util.Objects;
  * Created on 19.05.2022
  */
 
-@AllArgsConstructor
 @Slf4j
 public class StringGenerator implements Generator<String> {
 
@@ -27,14 +26,31 @@ public class StringGenerator implements Generator<String> {
     private final String[] words;
     private final RuleRemark ruleRemark;
     private final String regexp;
+    /**
+     * Sampler of the chars, created once per generator, null if strings are taken from words or regexp.
+     */
+    private final CharsetSampler charsetSampler;
+
+    public StringGenerator(int maxLength, int minLength, char[] chars, String[] words, RuleRemark ruleRemark,
+                           String regexp) {
+        this.maxLength = maxLength;
+        this.minLength = minLength;
+        this.chars = chars;
+        this.words = words;
+        this.ruleRemark = ruleRemark;
+        this.regexp = regexp;
+        this.charsetSampler = chars.length != 0 && words.length == 0 && (regexp == null || regexp.isEmpty())
+                ? new CharsetSampler(chars)
+                : null;
+    }
 
     public StringGenerator(StringConfig config) {
-        maxLength = config.getMaxLength();
-        minLength = config.getMinLength();
-        chars = config.getChars().toCharArray();
-        words = config.getWords();
-        ruleRemark = Objects.requireNonNull(config.getRuleRemark(), "Rule remark not set.");
-        regexp = config.getRegexp();
+        this(config.getMaxLength(),
+                config.getMinLength(),
+                config.getChars().toCharArray(),
+                config.getWords(),
+                Objects.requireNonNull(config.getRuleRemark(), "Rule remark not set."),
+                config.getRegexp());
         if (words.length > 0) {
             for (String word : words) {
                 if (word.length() < minLength) {
@@ -87,7 +103,9 @@ public class StringGenerator implements Generator<String> {
     }
 
     private String generateString(int length) {
-        return RandomUtils.nextString(chars, length);
+        return charsetSampler != null
+                ? charsetSampler.nextString(length)
+                : RandomUtils.nextString(chars, length);
     }
 
     private String generateStringByRegexp() {
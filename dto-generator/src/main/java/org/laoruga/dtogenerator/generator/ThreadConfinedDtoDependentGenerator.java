@@ -0,0 +1,59 @@
+package org.laoruga.dtogenerator.generator;
+
+import org.laoruga.dtogenerator.api.generators.custom.CustomGenerator;
+import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link ThreadConfinedGenerator} of DTO dependent generators,
+ * DTO readiness is checked by the generator instance of the current thread.
+ * <p>
+ * Instances receive DTO supplier from the instance factory. Once DTO supplier is set to this generator,
+ * it is passed to the instance of the current thread and to all the instances created afterwards.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public class ThreadConfinedDtoDependentGenerator<T, V> extends ThreadConfinedGenerator<T>
+        implements CustomGeneratorDtoDependent<T, V> {
+
+    private volatile Supplier<V> dtoSupplier;
+    private final Supplier<V> currentDtoSupplier = () -> dtoSupplier.get();
+
+    public ThreadConfinedDtoDependentGenerator(Supplier<CustomGenerator<T>> instanceFactory) {
+        super(instanceFactory);
+    }
+
+    @Override
+    public void setDtoSupplier(Supplier<V> generatedDto) {
+        this.dtoSupplier = generatedDto;
+        getDtoDependentInstance().setDtoSupplier(currentDtoSupplier);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected CustomGenerator<T> newInstance() {
+        CustomGenerator<T> instance = super.newInstance();
+        if (dtoSupplier != null) {
+            ((CustomGeneratorDtoDependent<T, V>) instance).setDtoSupplier(currentDtoSupplier);
+        }
+        return instance;
+    }
+
+    @Override
+    public boolean isDtoReady() {
+        return getDtoDependentInstance().isDtoReady();
+    }
+
+    @Override
+    public String[] dependsOn() {
+        return getDtoDependentInstance().dependsOn();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CustomGeneratorDtoDependent<T, V> getDtoDependentInstance() {
+        return (CustomGeneratorDtoDependent<T, V>) getUsersGeneratorInstance();
+    }
+
+}
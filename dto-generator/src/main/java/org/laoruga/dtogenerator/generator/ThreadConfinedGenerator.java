@@ -0,0 +1,47 @@
+package org.laoruga.dtogenerator.generator;
+
+import org.laoruga.dtogenerator.api.generators.custom.CustomGenerator;
+import org.laoruga.dtogenerator.api.generators.custom.ThreadConfined;
+
+import java.util.function.Supplier;
+
+/**
+ * Delegates generation to the instance of user's custom generator marked as {@link ThreadConfined},
+ * separate instance is created and configured for each thread on first use.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public class ThreadConfinedGenerator<T> implements CustomGenerator<T> {
+
+    private final Supplier<CustomGenerator<T>> instanceFactory;
+    private final ThreadLocal<CustomGenerator<T>> instances;
+
+    /**
+     * @param instanceFactory thread safe factory of configured generator instances
+     */
+    public ThreadConfinedGenerator(Supplier<CustomGenerator<T>> instanceFactory) {
+        this.instanceFactory = instanceFactory;
+        this.instances = ThreadLocal.withInitial(this::newInstance);
+    }
+
+    /**
+     * @return new generator instance for the current thread
+     */
+    protected CustomGenerator<T> newInstance() {
+        return instanceFactory.get();
+    }
+
+    @Override
+    public T generate() {
+        return getUsersGeneratorInstance().generate();
+    }
+
+    /**
+     * @return generator instance of the current thread
+     */
+    public CustomGenerator<T> getUsersGeneratorInstance() {
+        return instances.get();
+    }
+
+}
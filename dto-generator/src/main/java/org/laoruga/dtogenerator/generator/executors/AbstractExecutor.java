@@ -2,10 +2,7 @@ package org.laoruga.dtogenerator.generator.executors;
 
 import lombok.AccessLevel;
 import lombok.Getter;
-import org.laoruga.dtogenerator.api.generators.Generator;
-
-import java.lang.reflect.Field;
-import java.util.function.Supplier;
+import org.laoruga.dtogenerator.GenerationContext;
 
 /**
  * @author Il'dar Valitov
@@ -24,15 +21,15 @@ abstract class AbstractExecutor {
         this.nextExecutor = DUMMY;
     }
 
-    public abstract boolean execute(Field field, Generator<?> generator, Supplier<?> dtoInstanceSupplier);
+    public abstract boolean execute(ExecutionPlan.Step step, GenerationContext context);
 
-    protected boolean executeNextInstead(Field field, Generator<?> generator, Supplier<?> dtoInstanceSupplier) {
-        return nextExecutor.execute(field, generator, dtoInstanceSupplier);
+    protected boolean executeNextInstead(ExecutionPlan.Step step, GenerationContext context) {
+        return nextExecutor.execute(step, context);
     }
 
     private static final AbstractExecutor DUMMY = new AbstractExecutor() {
         @Override
-        public boolean execute(Field field, Generator<?> generator, Supplier<?> dtoInstanceSupplier) {
+        public boolean execute(ExecutionPlan.Step step, GenerationContext context) {
             throw new IllegalStateException("Next executor haven't defined");
         }
     };
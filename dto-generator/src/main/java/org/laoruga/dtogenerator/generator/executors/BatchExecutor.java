@@ -1,205 +1,207 @@
 package org.laoruga.dtogenerator.generator.executors;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.laoruga.dtogenerator.ErrorsHolder;
 import org.laoruga.dtogenerator.FieldGenerators;
-import org.laoruga.dtogenerator.api.generators.Generator;
+import org.laoruga.dtogenerator.GenerationContext;
+import org.laoruga.dtogenerator.api.RandomSource;
 import org.laoruga.dtogenerator.config.dto.DtoGeneratorStaticConfig;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+import org.laoruga.dtogenerator.util.random.SeededRandomSource;
 
-import java.lang.reflect.Field;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Supplier;
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Thread safe batch generators executor.
+ * Executes generators according to the {@link ExecutionPlan}, compiled on instantiation.
+ * Executor is immutable: state of the generation of each DTO, including failures number and errors,
+ * is kept locally or in its own {@link GenerationContext}.
+ * Configuration is read once on instantiation, so execution doesn't access static config.
  *
  * @author Il'dar Valitov
  * Created on 09.11.2022
  */
 @Slf4j
-public class BatchExecutor {
+public final class BatchExecutor {
 
-    private final FieldGenerators fieldGenerators;
-    private final ThreadLocal<FieldGenerators> generatorsNotExecutedDueToError;
+    private final ExecutionPlan executionPlan;
     private final AbstractExecutor executorsChain;
-    private final ErrorsHolder errorsHolder;
-    private int maxAttempts;
+    /**
+     * Max number of failures, captured from the static config when the executor is created
+     */
+    @Getter
+    private final int maxFailuresNumber;
 
     public BatchExecutor(AbstractExecutor executorsChain, FieldGenerators fieldGenerators) {
-        this.fieldGenerators = fieldGenerators;
-        this.generatorsNotExecutedDueToError = new ThreadLocal<>();
+        this.executionPlan = ExecutionPlan.compile(fieldGenerators);
         this.executorsChain = executorsChain;
-        this.errorsHolder = new ErrorsHolder();
+        this.maxFailuresNumber = DtoGeneratorStaticConfig.getInstance()
+                .getDtoGeneratorConfig()
+                .getMaxFailuresNumberDuringDtoGeneration();
     }
 
-    public void execute() {
-        try {
-
-            maxAttempts = DtoGeneratorStaticConfig.getInstance()
-                    .getDtoGeneratorConfig()
-                    .getMaxFailuresNumberDuringDtoGeneration();
-
-            boolean success = fieldGenerators.isEmpty();
+    public void execute(Object rootDtoInstance) {
+        execute(rootDtoInstance, maxFailuresNumber);
+    }
 
-            AtomicInteger attempt = new AtomicInteger(1);
+    /**
+     * Executes generators of one DTO instance.
+     * Allows callers generating a batch of DTOs to resolve max attempts number once per batch.
+     *
+     * @param rootDtoInstance DTO instance to set generated values to
+     * @param maxAttempts     max number of failures of deferred DTO dependent generators
+     */
+    public void execute(Object rootDtoInstance, int maxAttempts) {
+        execute(rootDtoInstance, maxAttempts, null, null);
+    }
 
-            while (!success && maxAttempts > attempt.get()) {
+    /**
+     * Executes generators of one DTO instance using the passed random source and clock.
+     * If the source is {@link SeededRandomSource}, which DTO has been started, every generator draws
+     * random values from its own stream.
+     * <p>
+     * Context of generation is bound to the current thread for the whole DTO, only if it is required.
+     *
+     * @param rootDtoInstance DTO instance to set generated values to
+     * @param maxAttempts     max number of failures of deferred DTO dependent generators
+     * @param randomSource    random source of the current thread or null, if default source is used
+     * @param clock           clock or null, if system clock is used
+     */
+    public void execute(Object rootDtoInstance, int maxAttempts, RandomSource randomSource, Clock clock) {
+
+        if (executionPlan.isEmpty()) {
+            return;
+        }
 
-                FieldGenerators failedGenerators = generatorsNotExecutedDueToError.get();
+        GenerationContext context = executionPlan.newContext(rootDtoInstance, randomSource, clock);
+        SeededRandomSource randomStreams = randomSource instanceof SeededRandomSource
+                ? (SeededRandomSource) randomSource
+                : null;
 
-                if (failedGenerators == null || failedGenerators.isEmpty()) {
-                    success = executeEachGenerator(attempt);
-                } else {
-                    success = executeEachRemainingGenerator(attempt);
-                }
+        boolean bindingRequired = randomSource != null || clock != null || executionPlan.isDtoDependent();
+        GenerationContext previous = bindingRequired ? GenerationContext.bind(context) : null;
+        try {
+            int failures = 0;
 
+            for (ExecutionPlan.Step step : executionPlan.getOrderedSteps()) {
+                failures = executeOrderedStep(step, context, failures, maxAttempts, randomStreams);
             }
 
-            if (!success) {
-                logErrorInfo();
-                throw new DtoGeneratorException("All attempts to generate field values have been exhausted," +
-                        " but not all fields have been set. See details for every not set field above.");
+            if (executionPlan.hasDeferredSteps()) {
+                executeDeferredSteps(context, failures, maxAttempts, randomStreams);
             }
-
         } finally {
-            generatorsNotExecutedDueToError.remove();
+            if (bindingRequired) {
+                GenerationContext.restore(previous);
+            }
         }
-
     }
 
-    private boolean executeEachGenerator(AtomicInteger attempt) {
-
-        boolean allGeneratorExecutedSuccessfully = true;
-
-        if (fieldGenerators.isNestedFieldsExist()) {
-            executeNestedDtoGenerators();
-        }
-
-        Iterator<Map.Entry<Supplier<?>, FieldGenerators.GeneratorEntry>> filedGeneratorsIterator =
-                fieldGenerators.getFieldGeneratorsMap().entrySet().iterator();
-
-        while (filedGeneratorsIterator.hasNext() && maxAttempts >= attempt.get()) {
-
-            Map.Entry<Supplier<?>, FieldGenerators.GeneratorEntry> nextGenerator = filedGeneratorsIterator.next();
-
-            Iterator<Map.Entry<Field, Generator<?>>> fieldGeneratorsIterator = nextGenerator.getValue()
-                    .getFieldGeneratorMap().entrySet().iterator();
-
-            Supplier<?> dtoInstanceSupplier = nextGenerator.getKey();
-
-            while (fieldGeneratorsIterator.hasNext() && maxAttempts >= attempt.get()) {
-
-                boolean generatorExecutedSuccessfully = false;
-
-                Map.Entry<Field, Generator<?>> next = fieldGeneratorsIterator.next();
-
-                Field field = next.getKey();
-                Generator<?> generator = next.getValue();
-
-                try {
-                    generatorExecutedSuccessfully = executorsChain.execute(field, generator, dtoInstanceSupplier);
-                } catch (Exception e) {
-                    errorsHolder.put(field, e);
-                } finally {
-                    if (!generatorExecutedSuccessfully) {
-                        allGeneratorExecutedSuccessfully = false;
-                        attempt.incrementAndGet();
-                        addGeneratorToReExecution(field, generator, dtoInstanceSupplier);
-                    }
+    /**
+     * Ordered step is executed once, dependencies of the step have already been executed.
+     * Generator may fail randomly, for example, when it can't generate enough unique values,
+     * in this case it is re-executed in place while failures number allows.
+     *
+     * @return failures number after step execution
+     */
+    private int executeOrderedStep(ExecutionPlan.Step step, GenerationContext context, int failures, int maxAttempts,
+                                   SeededRandomSource randomStreams) {
+        for (int attempt = 0; ; attempt++) {
+            if (randomStreams != null) {
+                randomStreams.startStream(step.getStreamKey(), attempt);
+            }
+            try {
+                if (executorsChain.execute(step, context)) {
+                    return failures;
                 }
-
+                throw new DtoGeneratorException("Unexpected state. Generator of the field '" + step + "' hasn't been executed.");
+            } catch (Exception e) {
+                if (step.isNestedDtoCreation()) {
+                    throw new DtoGeneratorException("Unexpected error during creating instances of nested DTO.", e);
+                }
+                if (++failures >= maxAttempts) {
+                    log.error("Unsuccessful generation. Max number of failures '{}' has been reached.", maxAttempts);
+                    throw new DtoGeneratorException("All attempts to generate field values have been exhausted," +
+                            " the field: '" + step + "' hasn't been set.", e);
+                }
+                log.debug("Generator of the field '{}' failed, it will be re-executed", step, e);
             }
-
         }
-
-        return allGeneratorExecutedSuccessfully;
     }
 
-    private boolean executeEachRemainingGenerator(AtomicInteger attempt) {
-
-        FieldGenerators failedGenerators = generatorsNotExecutedDueToError.get();
-
-        Iterator<Map.Entry<Supplier<?>, FieldGenerators.GeneratorEntry>> generatorsIterator =
-                failedGenerators.getFieldGeneratorsMap().entrySet().iterator();
-
-        while (generatorsIterator.hasNext() && maxAttempts >= attempt.get()) {
-            Map.Entry<Supplier<?>, FieldGenerators.GeneratorEntry> nextGenerator = generatorsIterator.next();
-
-            Iterator<Map.Entry<Field, Generator<?>>> fieldGeneratorsIterator = nextGenerator.getValue()
-                    .getFieldGeneratorMap().entrySet().iterator();
-
-            Supplier<?> dtoInstanceSupplier = nextGenerator.getKey();
-
-            boolean layerGeneratorsExecutedSuccessfully = true;
-
-            while (fieldGeneratorsIterator.hasNext() && maxAttempts >= attempt.get()) {
-
-                boolean generatorExecutedSuccessfully = false;
-
-                Map.Entry<Field, Generator<?>> next = fieldGeneratorsIterator.next();
-
-                Field field = next.getKey();
-                Generator<?> generator = next.getValue();
-
-                try {
-                    generatorExecutedSuccessfully = executorsChain.execute(field, generator, dtoInstanceSupplier);
-                } catch (Exception e) {
-                    errorsHolder.put(field, e);
-                } finally {
-
-                    layerGeneratorsExecutedSuccessfully &= generatorExecutedSuccessfully;
+    /**
+     * Deferred generators are executed when DTO is ready, so they are checked in turns
+     * until all of them are executed or max number of failures is reached.
+     */
+    private void executeDeferredSteps(GenerationContext context, int failures, int maxAttempts,
+                                      SeededRandomSource randomStreams) {
+
+        ExecutionPlan.Step[] steps = executionPlan.getDeferredSteps();
+        ErrorsHolder errorsHolder = new ErrorsHolder();
+
+        boolean[] notExecuted = null;
+        int[] attempts = null;
+        int notExecutedNumber = 0;
+
+        for (int i = 0; i < steps.length; i++) {
+            if (!tryExecute(steps[i], context, errorsHolder, randomStreams, 0)) {
+                if (notExecuted == null) {
+                    notExecuted = new boolean[steps.length];
+                    attempts = new int[steps.length];
+                }
+                notExecuted[i] = true;
+                notExecutedNumber++;
+                failures++;
+            }
+        }
 
-                    if (generatorExecutedSuccessfully) {
-                        fieldGeneratorsIterator.remove();
+        while (notExecutedNumber != 0 && failures < maxAttempts) {
+            for (int i = 0; i < steps.length && failures < maxAttempts; i++) {
+                if (notExecuted[i]) {
+                    if (tryExecute(steps[i], context, errorsHolder, randomStreams, ++attempts[i])) {
+                        notExecuted[i] = false;
+                        notExecutedNumber--;
                     } else {
-                        attempt.incrementAndGet();
+                        failures++;
                     }
-
                 }
-
-            }
-
-            if (layerGeneratorsExecutedSuccessfully) {
-                generatorsIterator.remove();
             }
         }
 
-        return failedGenerators.isEmpty();
+        if (notExecutedNumber != 0) {
+            logErrorInfo(errorsHolder, steps, notExecuted);
+            throw new DtoGeneratorException("All attempts to generate field values have been exhausted," +
+                    " but not all fields have been set. See details for every not set field above.");
+        }
     }
 
-    private void executeNestedDtoGenerators() {
+    private boolean tryExecute(ExecutionPlan.Step step, GenerationContext context, ErrorsHolder errorsHolder,
+                               SeededRandomSource randomStreams, int attempt) {
+        if (randomStreams != null) {
+            randomStreams.startStream(step.getStreamKey(), attempt);
+        }
         try {
-            for (FieldGenerators.NestedGeneratorEntry nestedEntry : fieldGenerators.getNestedDtoGenerators()) {
-                executorsChain.execute(
-                        nestedEntry.getField(),
-                        nestedEntry.getNestedDtoGenerator(),
-                        nestedEntry.getDtoInstanceSupplier()
-                );
-            }
+            return executorsChain.execute(step, context);
         } catch (Exception e) {
-            throw new DtoGeneratorException("Unexpected error during creating instances of nested DTO.", e);
+            errorsHolder.put(step.getField(), e);
+            return false;
         }
     }
 
-    private void addGeneratorToReExecution(Field field, Generator<?> generator, Supplier<?> dtoInstanceSupplier) {
-        FieldGenerators generatorsToReExecution = generatorsNotExecutedDueToError.get();
-        if (generatorsToReExecution == null) {
-            generatorsToReExecution = new FieldGenerators();
-            generatorsNotExecutedDueToError.set(generatorsToReExecution);
-        }
-        generatorsToReExecution.addGenerator(field, generator, dtoInstanceSupplier);
-    }
-
-
-    private void logErrorInfo() {
+    private void logErrorInfo(ErrorsHolder errorsHolder, ExecutionPlan.Step[] steps, boolean[] notExecuted) {
         log.error("Unsuccessful generation. {} error(s) while generators execution. See problems below:\n{}",
                 errorsHolder.getErrorsNumber(), errorsHolder);
 
-        FieldGenerators fieldIGeneratorMap = generatorsNotExecutedDueToError.get();
+        List<ExecutionPlan.Step> notExecutedSteps = IntStream.range(0, steps.length)
+                .filter(i -> notExecuted[i])
+                .mapToObj(i -> steps[i])
+                .collect(Collectors.toList());
 
-        log.error("Unexpected state. There {} unused generator(s) left:\n{}", fieldIGeneratorMap.size(), fieldIGeneratorMap);
+        log.error("Unexpected state. There {} unused generator(s) left:\n{}", notExecutedSteps.size(),
+                notExecutedSteps.stream().map(ExecutionPlan.Step::toString).collect(Collectors.joining("\n")));
     }
 }
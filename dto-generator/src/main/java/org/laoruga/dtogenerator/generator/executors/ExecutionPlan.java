@@ -0,0 +1,351 @@
+package org.laoruga.dtogenerator.generator.executors;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.laoruga.dtogenerator.FieldGenerators;
+import org.laoruga.dtogenerator.GenerationContext;
+import org.laoruga.dtogenerator.api.RandomSource;
+import org.laoruga.dtogenerator.api.generators.Generator;
+import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent;
+import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+import org.laoruga.dtogenerator.generator.NestedDtoGenerator;
+import org.laoruga.dtogenerator.util.random.SeededRandomSource;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Order of generators execution, which is compiled once, when DTO generator is being built.
+ * <p>
+ * Generators are nodes of the dependency graph, for example, generators of nested DTO fields
+ * depend on the generator creating nested DTO instance, and DTO dependent generators depend on generators
+ * of the fields declared via {@link CustomGeneratorDtoDependent#dependsOn()}. Graph is sorted topologically,
+ * so all the ordered steps are executed in a single pass. Cyclic dependencies are reported during compilation.
+ * <p>
+ * DTO dependent generators, which don't declare their dependencies, are deferred: they are executed
+ * after all the ordered steps, and before that, DTO readiness is checked.
+ * <p>
+ * Root and nested DTO instances get the slots of {@link GenerationContext}, so each step knows
+ * the slot of DTO instance, which field it sets.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@Slf4j
+@Getter(AccessLevel.PACKAGE)
+public class ExecutionPlan {
+
+    private static final Step[] EMPTY = {};
+
+    public static final int NO_SLOT = -1;
+
+    private final Step[] orderedSteps;
+    private final Step[] deferredSteps;
+    private final Map<Supplier<?>, Integer> dtoSlots;
+    /**
+     * Whether at least one step uses DTO dependent generators.
+     */
+    private final boolean dtoDependent;
+
+    private ExecutionPlan(Step[] orderedSteps, Step[] deferredSteps, Map<Supplier<?>, Integer> dtoSlots) {
+        this.orderedSteps = orderedSteps;
+        this.deferredSteps = deferredSteps;
+        this.dtoSlots = dtoSlots;
+        this.dtoDependent = deferredSteps.length != 0 ||
+                Arrays.stream(orderedSteps).anyMatch(Step::isDtoDependent);
+    }
+
+    /**
+     * @param rootDtoInstance root DTO instance to generate fields of
+     * @param randomSource    random source of the current thread or null, if default source is used
+     * @param clock           clock or null, if system clock is used
+     * @return new context of generation
+     */
+    public GenerationContext newContext(Object rootDtoInstance, RandomSource randomSource, Clock clock) {
+        return new GenerationContext(rootDtoInstance, getSlotsNumber(), dtoSlots, randomSource, clock);
+    }
+
+    public int getSlotsNumber() {
+        return dtoSlots.size() + 1;
+    }
+
+    public boolean isEmpty() {
+        return orderedSteps.length == 0 && deferredSteps.length == 0;
+    }
+
+    public boolean hasDeferredSteps() {
+        return deferredSteps.length != 0;
+    }
+
+    public static ExecutionPlan compile(FieldGenerators fieldGenerators) {
+        return new Compiler(fieldGenerators).compile();
+    }
+
+    /**
+     * Execution of the single generator for the field of DTO instance
+     * provided by {@link Step#dtoInstanceSupplier}.
+     * Everything required for the execution, which doesn't depend on DTO instance,
+     * is resolved once, on step creation.
+     */
+    @Getter
+    public static class Step {
+
+        private final Field field;
+        private final Generator<?> generator;
+        private final Supplier<?> dtoInstanceSupplier;
+        private final FieldWriter fieldWriter;
+        /**
+         * DTO dependent generators used by the generator of the step, including element generators.
+         */
+        private final CustomGeneratorDtoDependent<?, ?>[] dtoDependentGenerators;
+        /**
+         * Declared dependencies of all the DTO dependent generators or null if at least one of them
+         * doesn't declare dependencies.
+         */
+        private final String[] declaredDependencies;
+        /**
+         * Supplier of nested DTO instance created by the step, or null, if it isn't nested DTO creation.
+         */
+        private final Supplier<?> nestedDtoInstanceSupplier;
+        /**
+         * Slot of DTO instance, which field is set by the step.
+         */
+        private final int dtoSlot;
+        /**
+         * Slot of nested DTO instance created by the step, or {@link ExecutionPlan#NO_SLOT}.
+         */
+        private final int createdDtoSlot;
+        /**
+         * Path of the field from the root DTO, for example: 'nested.field'.
+         */
+        private final String path;
+        /**
+         * Key of the random stream of the step, derived from the path of the field,
+         * so it doesn't depend on the other fields, see {@link SeededRandomSource}.
+         */
+        private final long streamKey;
+
+        private Step(Field field, Generator<?> generator, Supplier<?> dtoInstanceSupplier,
+                     Map<Supplier<?>, Integer> dtoSlots, String pathPrefix) {
+            this.field = field;
+            this.generator = generator;
+            this.dtoInstanceSupplier = dtoInstanceSupplier;
+            this.nestedDtoInstanceSupplier = getNestedDtoInstanceSupplierOrNull(generator);
+            this.dtoSlot = dtoSlots.getOrDefault(dtoInstanceSupplier, GenerationContext.ROOT_SLOT);
+            this.createdDtoSlot = nestedDtoInstanceSupplier != null
+                    ? dtoSlots.get(nestedDtoInstanceSupplier)
+                    : NO_SLOT;
+            this.fieldWriter = FieldWriter.of(field);
+            this.dtoDependentGenerators = ExecutorOfDtoDependentGenerator.getDtoDependentGeneratorsOrNull(generator);
+            this.declaredDependencies = isDtoDependent()
+                    ? ExecutorOfDtoDependentGenerator.getDeclaredDependenciesOrNull(generator)
+                    : null;
+            this.path = pathPrefix + field.getName();
+            this.streamKey = SeededRandomSource.streamKey(path);
+        }
+
+        public boolean isNestedDtoCreation() {
+            return nestedDtoInstanceSupplier != null;
+        }
+
+        public boolean isDtoDependent() {
+            return dtoDependentGenerators.length != 0;
+        }
+
+        public boolean isDependenciesDeclared() {
+            return declaredDependencies != null;
+        }
+
+        @Override
+        public String toString() {
+            return field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        }
+    }
+
+    private static Supplier<?> getNestedDtoInstanceSupplierOrNull(Generator<?> generator) {
+        return generator instanceof NestedDtoGenerator
+                ? ((NestedDtoGenerator) generator).getDtoGeneratorBuilderTreeNode()
+                .getFieldGeneratorsProvider()
+                .getDtoInstanceSupplier()
+                : null;
+    }
+
+    private static class Compiler {
+
+        private final FieldGenerators fieldGenerators;
+
+        private final List<Step> nodes = new ArrayList<>();
+        private final List<Step> deferred = new ArrayList<>();
+        private final Map<Step, List<Step>> dependants = new IdentityHashMap<>();
+        private final Map<Step, Integer> dependenciesNumber = new IdentityHashMap<>();
+        private final List<Step> declaredDependencies = new ArrayList<>();
+
+        /**
+         * Steps creating nested DTO instances, by suppliers of these instances.
+         */
+        private final Map<Supplier<?>, Step> nestedDtoCreationSteps = new IdentityHashMap<>();
+        /**
+         * Slots of nested DTO instances by their suppliers, root DTO slot isn't included.
+         */
+        private final Map<Supplier<?>, Integer> dtoSlots = new IdentityHashMap<>();
+        /**
+         * Entries of nested DTO generators by suppliers of created nested DTO instances.
+         */
+        private final Map<Supplier<?>, FieldGenerators.NestedGeneratorEntry> nestedEntries = new IdentityHashMap<>();
+
+        Compiler(FieldGenerators fieldGenerators) {
+            this.fieldGenerators = fieldGenerators;
+        }
+
+        ExecutionPlan compile() {
+
+            for (FieldGenerators.NestedGeneratorEntry nestedEntry : fieldGenerators.getNestedDtoGenerators()) {
+                Supplier<?> nestedDtoInstanceSupplier = getNestedDtoInstanceSupplierOrNull(nestedEntry.getNestedDtoGenerator());
+                dtoSlots.put(nestedDtoInstanceSupplier, dtoSlots.size() + 1);
+                nestedEntries.put(nestedDtoInstanceSupplier, nestedEntry);
+            }
+
+            for (FieldGenerators.NestedGeneratorEntry nestedEntry : fieldGenerators.getNestedDtoGenerators()) {
+                Step step = addNode(new Step(
+                        nestedEntry.getField(),
+                        nestedEntry.getNestedDtoGenerator(),
+                        nestedEntry.getDtoInstanceSupplier(),
+                        dtoSlots,
+                        getPathPrefix(nestedEntry.getDtoInstanceSupplier())));
+
+                nestedDtoCreationSteps.put(step.getNestedDtoInstanceSupplier(), step);
+            }
+
+            for (FieldGenerators.GeneratorEntry entry : fieldGenerators.getFieldGeneratorsMap().values()) {
+                for (Map.Entry<Field, Generator<?>> fieldGenerator : entry.getFieldGeneratorMap().entrySet()) {
+
+                    Step step = new Step(fieldGenerator.getKey(), fieldGenerator.getValue(), entry.getDtoInstanceSupplier(),
+                            dtoSlots, getPathPrefix(entry.getDtoInstanceSupplier()));
+
+                    if (!step.isDtoDependent()) {
+                        addNode(step);
+                    } else if (step.isDependenciesDeclared()) {
+                        addNode(step);
+                        declaredDependencies.add(step);
+                    } else {
+                        deferred.add(step);
+                    }
+                }
+            }
+
+            for (Step step : nodes) {
+                Step nestedDtoCreationStep = nestedDtoCreationSteps.get(step.getDtoInstanceSupplier());
+                if (nestedDtoCreationStep != null) {
+                    addDependency(step, nestedDtoCreationStep);
+                }
+            }
+
+            if (!declaredDependencies.isEmpty()) {
+                addDeclaredDependencies();
+            }
+
+            return new ExecutionPlan(sort(), deferred.toArray(EMPTY), dtoSlots);
+        }
+
+        /**
+         * Declared dependencies are paths of the fields from the root DTO.
+         */
+        private void addDeclaredDependencies() {
+            Map<String, Step> stepsByPath = new HashMap<>();
+            for (Step step : nodes) {
+                stepsByPath.put(step.getPath(), step);
+            }
+            Set<String> deferredPaths = deferred.stream().map(Step::getPath).collect(Collectors.toSet());
+
+            for (Step step : declaredDependencies) {
+                for (String path : step.getDeclaredDependencies()) {
+
+                    Step dependency = stepsByPath.get(path);
+
+                    if (dependency != null) {
+                        addDependency(step, dependency);
+                    } else if (deferredPaths.contains(path)) {
+                        throw new DtoGeneratorException("Generator of the field '" + step.getPath() + "' depends on" +
+                                " the field '" + path + "', which generator doesn't declare its own dependencies." +
+                                " Declare dependencies of the '" + path + "' generator as well.");
+                    } else {
+                        log.warn("Generator of the field '{}' depends on the field '{}', which isn't generated",
+                                step.getPath(), path);
+                    }
+                }
+            }
+        }
+
+        private String getPathPrefix(Supplier<?> dtoInstanceSupplier) {
+            FieldGenerators.NestedGeneratorEntry nestedEntry = nestedEntries.get(dtoInstanceSupplier);
+            if (nestedEntry == null) {
+                return "";
+            }
+            return getPathPrefix(nestedEntry.getDtoInstanceSupplier()) + nestedEntry.getField().getName() + ".";
+        }
+
+        private Step addNode(Step step) {
+            nodes.add(step);
+            dependants.put(step, new LinkedList<>());
+            dependenciesNumber.put(step, 0);
+            return step;
+        }
+
+        private void addDependency(Step step, Step dependency) {
+            dependants.get(dependency).add(step);
+            dependenciesNumber.merge(step, 1, Integer::sum);
+        }
+
+        /**
+         * Kahn's topological sort. Steps without dependencies keep the order they were added in,
+         * so the order of execution is the same for every build.
+         *
+         * @return steps ordered the way each step follows all its dependencies
+         * @throws DtoGeneratorException if there are cyclic dependencies
+         */
+        private Step[] sort() {
+            Map<Step, Integer> remainingDependencies = new IdentityHashMap<>(dependenciesNumber);
+            Queue<Step> ready = new ArrayDeque<>();
+            for (Step step : nodes) {
+                if (remainingDependencies.get(step) == 0) {
+                    ready.add(step);
+                }
+            }
+
+            List<Step> sorted = new ArrayList<>(nodes.size());
+            while (!ready.isEmpty()) {
+                Step step = ready.poll();
+                sorted.add(step);
+                for (Step dependant : dependants.get(step)) {
+                    if (remainingDependencies.merge(dependant, -1, Integer::sum) == 0) {
+                        ready.add(dependant);
+                    }
+                }
+            }
+
+            if (sorted.size() != nodes.size()) {
+                String cyclicSteps = nodes.stream()
+                        .filter(step -> remainingDependencies.get(step) != 0)
+                        .map(Step::toString)
+                        .collect(Collectors.joining("', '", "'", "'"));
+                throw new DtoGeneratorException("Cyclic dependency between generators of fields: " + cyclicSteps);
+            }
+
+            return sorted.toArray(EMPTY);
+        }
+    }
+
+}
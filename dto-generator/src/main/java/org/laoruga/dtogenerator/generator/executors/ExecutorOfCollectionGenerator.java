@@ -1,11 +1,8 @@
 package org.laoruga.dtogenerator.generator.executors;
 
-import org.laoruga.dtogenerator.api.generators.Generator;
+import org.laoruga.dtogenerator.GenerationContext;
 import org.laoruga.dtogenerator.api.generators.ListGenerator;
 
-import java.lang.reflect.Field;
-import java.util.function.Supplier;
-
 /**
  * @author Il'dar Valitov
  * Created on 09.11.2022
@@ -18,18 +15,11 @@ public class ExecutorOfCollectionGenerator extends ExecutorOfDtoDependentGenerat
     }
 
     @Override
-    public boolean execute(Field field, Generator<?> generator, Supplier<?> dtoInstanceSupplier) {
-        if (generator instanceof ListGenerator) {
-
-            Generator<?> innerGenerator = ((ListGenerator) generator).getElementGenerator();
-
-            if (isItDtoDependentGenerator(innerGenerator)) {
-                return super.execute(field, generator, dtoInstanceSupplier);
-            }
-
-            return super.execute(field, generator, dtoInstanceSupplier);
+    public boolean execute(ExecutionPlan.Step step, GenerationContext context) {
+        if (step.getGenerator() instanceof ListGenerator) {
+            return super.execute(step, context);
         }
 
-        return executeNextInstead(field, generator, dtoInstanceSupplier);
+        return executeNextInstead(step, context);
     }
 }
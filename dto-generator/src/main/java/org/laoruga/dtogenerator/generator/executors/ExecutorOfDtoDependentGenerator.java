@@ -1,6 +1,7 @@
 package org.laoruga.dtogenerator.generator.executors;
 
 import lombok.extern.slf4j.Slf4j;
+import org.laoruga.dtogenerator.GenerationContext;
 import org.laoruga.dtogenerator.api.generators.Generator;
 import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
@@ -9,9 +10,9 @@ import org.laoruga.dtogenerator.generator.CollectionGenerator;
 import org.laoruga.dtogenerator.generator.CustomGeneratorWrapper;
 import org.laoruga.dtogenerator.generator.MapGenerator;
 
-import java.lang.reflect.Field;
 import java.util.Arrays;
-import java.util.function.Supplier;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * @author Il'dar Valitov
@@ -24,28 +25,30 @@ public class ExecutorOfDtoDependentGenerator extends ExecutorOfGenerator {
         super(nextGenerator);
     }
 
+    /**
+     * DTO dependent generators access DTO via injected supplier, the context is bound
+     * to the current thread by {@link BatchExecutor} while DTO is generated.
+     */
     @Override
-    public boolean execute(Field field, Generator<?> generator, Supplier<?> dtoInstanceSupplier) {
-        if (isItDtoDependentGenerator(generator)) {
-            if (isDtoReadyForFieldGeneration(generator)) {
-                return super.execute(field, generator, dtoInstanceSupplier);
+    public boolean execute(ExecutionPlan.Step step, GenerationContext context) {
+        if (step.isDtoDependent()) {
+            if (step.isDependenciesDeclared() || isDtoReadyForFieldGeneration(step.getDtoDependentGenerators())) {
+                return super.execute(step, context);
             }
             return false;
         }
-        return executeNextInstead(field, generator, dtoInstanceSupplier);
+        return executeNextInstead(step, context);
     }
 
     /**
      * Check whether DTO is ready for using CustomGeneratorDtoDependent or not.
      * There is limited attempts to prevent infinite loops.
      *
-     * @param generator - generator to check
+     * @param dtoDependentGenerators - generators to check
      * @return - doesn't DTO ready?
      * @throws DtoGeneratorException - throws if all attempts are spent
      */
-    boolean isDtoReadyForFieldGeneration(Generator<?> generator) throws DtoGeneratorException {
-
-        CustomGeneratorDtoDependent<?, ?>[] dtoDependentGenerators = getDtoDependentGeneratorsOrNull(generator);
+    boolean isDtoReadyForFieldGeneration(CustomGeneratorDtoDependent<?, ?>[] dtoDependentGenerators) throws DtoGeneratorException {
 
         boolean dtoReady = Arrays.stream(dtoDependentGenerators)
                 .allMatch(CustomGeneratorDtoDependent::isDtoReady);
@@ -57,7 +60,7 @@ public class ExecutorOfDtoDependentGenerator extends ExecutorOfGenerator {
 
     private static final CustomGeneratorDtoDependent<?, ?>[] EMPTY_ARRAY = {};
 
-    CustomGeneratorDtoDependent<?, ?>[] getDtoDependentGeneratorsOrNull(Generator<?> generator) {
+    static CustomGeneratorDtoDependent<?, ?>[] getDtoDependentGeneratorsOrNull(Generator<?> generator) {
         if (generator instanceof CustomGeneratorDtoDependent) {
 
             return new CustomGeneratorDtoDependent[]{(CustomGeneratorDtoDependent<?, ?>) generator};
@@ -89,7 +92,7 @@ public class ExecutorOfDtoDependentGenerator extends ExecutorOfGenerator {
                         new CustomGeneratorDtoDependent<?, ?>[keyGenerator.length + valueGenerator.length];
 
                 System.arraycopy(keyGenerator, 0, result, 0, keyGenerator.length);
-                System.arraycopy(keyGenerator, 0, result, keyGenerator.length, valueGenerator.length);
+                System.arraycopy(valueGenerator, 0, result, keyGenerator.length, valueGenerator.length);
 
                 return result;
             }
@@ -105,7 +108,29 @@ public class ExecutorOfDtoDependentGenerator extends ExecutorOfGenerator {
     }
 
 
-    boolean isItDtoDependentGenerator(Generator<?> generator) {
-        return getDtoDependentGeneratorsOrNull(generator) != EMPTY_ARRAY;
+    /**
+     * Dependencies declared by DTO dependent generators, generator of such fields is executed
+     * after generators of the declared fields, so there is no need to check DTO readiness.
+     *
+     * @param generator generator to check
+     * @return declared paths of the required fields, or null, if at least one DTO dependent generator
+     * doesn't declare its dependencies
+     */
+    static String[] getDeclaredDependenciesOrNull(Generator<?> generator) {
+        CustomGeneratorDtoDependent<?, ?>[] dtoDependentGenerators = getDtoDependentGeneratorsOrNull(generator);
+        if (dtoDependentGenerators.length == 1) {
+            String[] dependsOn = dtoDependentGenerators[0].dependsOn();
+            return dependsOn.length == 0 ? null : dependsOn;
+        }
+        Set<String> dependencies = new LinkedHashSet<>();
+        for (CustomGeneratorDtoDependent<?, ?> dtoDependentGenerator : dtoDependentGenerators) {
+            String[] dependsOn = dtoDependentGenerator.dependsOn();
+            if (dependsOn.length == 0) {
+                return null;
+            }
+            dependencies.addAll(Arrays.asList(dependsOn));
+        }
+        return dependencies.toArray(new String[0]);
     }
+
 }
@@ -1,11 +1,10 @@
 package org.laoruga.dtogenerator.generator.executors;
 
 import lombok.extern.slf4j.Slf4j;
-import org.laoruga.dtogenerator.api.generators.Generator;
+import org.laoruga.dtogenerator.GenerationContext;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
 
 import java.lang.reflect.Field;
-import java.util.function.Supplier;
 
 /**
  * @author Il'dar Valitov
@@ -23,17 +22,20 @@ public class ExecutorOfGenerator extends AbstractExecutor {
     }
 
     @Override
-    public boolean execute(Field field, Generator<?> generator, Supplier<?> dtoInstanceSupplier) {
+    public boolean execute(ExecutionPlan.Step step, GenerationContext context) {
+        Field field = step.getField();
         Object result;
         try {
-            result = generator.generate();
+            result = step.getGenerator().generate();
         } catch (Exception e) {
             throw new DtoGeneratorException("Error while generating value for the field: " + field, e);
         }
+        if (step.isNestedDtoCreation()) {
+            context.setDto(step.getCreatedDtoSlot(), result);
+        }
         try {
-            field.setAccessible(true);
-            field.set(dtoInstanceSupplier.get(), result);
-        } catch (Exception e) {
+            step.getFieldWriter().write(context.getDto(step.getDtoSlot()), result);
+        } catch (Throwable e) {
             throw new DtoGeneratorException("Unable to set generated value of type: '" +
                     (result != null ? result.getClass() : null) + "' to the field: " +
                     "'" + field.getName() + "'. field type: '" + field.getType() + "'", e);
@@ -0,0 +1,70 @@
+package org.laoruga.dtogenerator.generator.executors;
+
+import org.laoruga.dtogenerator.api.accessors.DtoAccessors;
+import org.laoruga.dtogenerator.api.accessors.FieldSetter;
+import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+import org.laoruga.dtogenerator.util.DtoAccessorsUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Writes generated values to the field of DTO instances.
+ * <p>
+ * Field setter is resolved once into the {@link MethodHandle}, which is adapted to the
+ * '(Object, Object) void' type, so it can be invoked exactly without reflective access checks
+ * and arguments wrapping on every write. Values of primitive fields are unboxed by the handle.
+ * <p>
+ * If {@link DtoAccessors} are generated for the declaring class of the field,
+ * the compiled {@link FieldSetter} is used instead of the handle.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public final class FieldWriter {
+
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle setter;
+    private final FieldSetter generatedSetter;
+
+    private FieldWriter(MethodHandle setter, FieldSetter generatedSetter) {
+        this.setter = setter;
+        this.generatedSetter = generatedSetter;
+    }
+
+    public static FieldWriter of(Field field) {
+        FieldSetter generatedSetter = DtoAccessorsUtils.getFieldSetterOrNull(field);
+        if (generatedSetter != null) {
+            return new FieldWriter(null, generatedSetter);
+        }
+        try {
+            field.setAccessible(true);
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return new FieldWriter(setter.asType(WRITER_TYPE), null);
+        } catch (Exception e) {
+            throw new DtoGeneratorException("Unable to access the field: '" + field + "'", e);
+        }
+    }
+
+    /**
+     * @param dtoInstance DTO instance, which field is set
+     * @param value       value to set
+     * @throws Throwable if the value can't be assigned to the field,
+     *                   for example, ClassCastException or NullPointerException for primitive field
+     */
+    public void write(Object dtoInstance, Object value) throws Throwable {
+        if (generatedSetter != null) {
+            generatedSetter.set(dtoInstance, value);
+        } else {
+            setter.invokeExact(dtoInstance, value);
+        }
+    }
+
+}
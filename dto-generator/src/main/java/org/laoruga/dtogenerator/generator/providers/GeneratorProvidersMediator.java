@@ -15,6 +15,7 @@ import org.laoruga.dtogenerator.rule.RuleInfoList;
 import org.laoruga.dtogenerator.rule.RuleInfoMap;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Type;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -99,7 +100,7 @@ public class GeneratorProvidersMediator {
      * By type
      */
 
-    public Optional<Generator<?>> getGeneratorByType(Field field, Class<?> generatedType) {
+    public Optional<Generator<?>> getGeneratorByType(Field field, Type generatedType) {
         return generatorsProviderByType
                 .getGenerator(field, generatedType);
     }
@@ -5,12 +5,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.laoruga.dtogenerator.DtoGeneratorBuildersTree;
 import org.laoruga.dtogenerator.api.generators.Generator;
 import org.laoruga.dtogenerator.api.generators.custom.CustomGenerator;
+import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent;
+import org.laoruga.dtogenerator.api.generators.custom.ThreadConfined;
 import org.laoruga.dtogenerator.api.rules.CustomRule;
 import org.laoruga.dtogenerator.api.rules.NestedDtoRule;
+import org.laoruga.dtogenerator.config.CustomGeneratorConfigurator;
 import org.laoruga.dtogenerator.config.CustomGeneratorsConfigurationHolder;
 import org.laoruga.dtogenerator.constants.RuleType;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+import org.laoruga.dtogenerator.generator.CustomGeneratorDtoDependentWrapper;
 import org.laoruga.dtogenerator.generator.NestedDtoGenerator;
+import org.laoruga.dtogenerator.generator.ThreadConfinedDtoDependentGenerator;
+import org.laoruga.dtogenerator.generator.ThreadConfinedGenerator;
 import org.laoruga.dtogenerator.generator.config.GeneratorConfiguratorByAnnotation;
 import org.laoruga.dtogenerator.generator.config.dto.ConfigDto;
 import org.laoruga.dtogenerator.generator.config.dto.NestedConfig;
@@ -24,6 +30,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.laoruga.dtogenerator.util.ReflectionUtils.createInstance;
 
@@ -109,16 +116,53 @@ public class GeneratorsProviderByAnnotation {
 
         Class<? extends CustomGenerator<?>> generatorClass = customRule.generatorClass();
 
-        CustomGenerator<?> generatorInstance = createInstance(generatorClass);
-
-        configurators.getBuilder(fieldName, generatorClass, customRule.args(), customRule.keyValueParams())
+        CustomGeneratorConfigurator configurator = configurators
+                .getBuilder(fieldName, generatorClass, customRule.args(), customRule.keyValueParams())
                 .boundary(customRule.boundary())
-                .build()
-                .configure(generatorInstance);
+                .build();
+
+        CustomGenerator<?> generatorInstance = generatorClass.isAnnotationPresent(ThreadConfined.class)
+                ? createThreadConfinedGenerator(generatorClass, configurator)
+                : createConfiguredInstance(generatorClass, configurator);
+
+        if (customRule.dependsOn().length != 0) {
+            if (!(generatorInstance instanceof CustomGeneratorDtoDependent)) {
+                throw new DtoGeneratorException("Dependencies of the field '" + fieldName + "' may be declared" +
+                        " only for generators implementing '" + CustomGeneratorDtoDependent.class.getSimpleName() + "'," +
+                        " but generator is: '" + generatorClass + "'");
+            }
+            return new CustomGeneratorDtoDependentWrapper<>(
+                    (CustomGeneratorDtoDependent<?, ?>) generatorInstance,
+                    customRule.dependsOn());
+        }
 
         return generatorInstance;
     }
 
+    private static CustomGenerator<?> createConfiguredInstance(Class<? extends CustomGenerator<?>> generatorClass,
+                                                               CustomGeneratorConfigurator configurator) {
+        CustomGenerator<?> generatorInstance = createInstance(generatorClass);
+        configurator.configure(generatorInstance);
+        return generatorInstance;
+    }
+
+    /**
+     * Instances of thread confined generator are created and configured per thread on first use,
+     * one instance is created right now to check that generator is correct.
+     */
+    @SuppressWarnings("unchecked")
+    private static CustomGenerator<?> createThreadConfinedGenerator(Class<? extends CustomGenerator<?>> generatorClass,
+                                                                    CustomGeneratorConfigurator configurator) {
+        Supplier<CustomGenerator<Object>> instanceFactory =
+                () -> (CustomGenerator<Object>) createConfiguredInstance(generatorClass, configurator);
+
+        instanceFactory.get();
+
+        return CustomGeneratorDtoDependent.class.isAssignableFrom(generatorClass)
+                ? new ThreadConfinedDtoDependentGenerator<>(instanceFactory)
+                : new ThreadConfinedGenerator<>(instanceFactory);
+    }
+
     Generator<?> createNestedGenerator(NestedDtoRule nestedRule, String fieldName) {
         return new NestedDtoGenerator(
                 NestedConfig.builder()
@@ -19,9 +19,11 @@ import org.laoruga.dtogenerator.generator.providers.suppliers.GeneratorSuppliers
 import org.laoruga.dtogenerator.generator.providers.suppliers.GeneratorSuppliersDefault;
 import org.laoruga.dtogenerator.generator.providers.suppliers.UserGeneratorSuppliers;
 import org.laoruga.dtogenerator.util.ConcreteClasses;
+import org.laoruga.dtogenerator.util.GenericTypes;
 import org.laoruga.dtogenerator.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Type;
 import java.time.temporal.Temporal;
 import java.util.Collection;
 import java.util.Map;
@@ -77,10 +79,15 @@ public class GeneratorsProviderByType {
     }
 
 
-    @SuppressWarnings("unchecked")
-    public Optional<Generator<?>> getGenerator(Field field, Class<?> generatedType) {
+    /**
+     * @param field                field, which value is generated
+     * @param genericGeneratedType type of generated value, generic types are used to select generators
+     *                             of collection elements and of map keys and values
+     * @return generator or empty optional if generator not found
+     */
+    public Optional<Generator<?>> getGenerator(Field field, Type genericGeneratedType) {
 
-        generatedType = Primitives.wrap(generatedType);
+        Class<?> generatedType = Primitives.wrap(GenericTypes.getRawType(genericGeneratedType));
 
         Optional<Generator<?>> maybeUserGenerator = getUserGenerator(field, generatedType);
 
@@ -97,7 +104,7 @@ public class GeneratorsProviderByType {
             return Optional.empty();
         }
 
-        Optional<ConfigDto> generatorConfig = getGeneratorConfig(field, generatedType);
+        Optional<ConfigDto> generatorConfig = getGeneratorConfig(field, generatedType, genericGeneratedType);
 
         if (!generatorConfig.isPresent()) {
             if (configuration.getDtoGeneratorConfig().getGenerateAllKnownTypes()) {
@@ -116,13 +123,14 @@ public class GeneratorsProviderByType {
 
     @SuppressWarnings("unchecked")
     private Optional<ConfigDto> getGeneratorConfig(Field field,
-                                                   Class<?> generatedType) {
+                                                   Class<?> generatedType,
+                                                   Type genericGeneratedType) {
         Consumer<ConfigDto> specificConfig;
 
         if (CollectionRule.GENERATED_TYPE.isAssignableFrom(generatedType)) {
 
             Optional<Consumer<ConfigDto>> maybeCollectionSpecificConfig =
-                    getCollectionSpecificConfigWithElementGenerator(field, generatedType);
+                    getCollectionSpecificConfigWithElementGenerator(field, generatedType, genericGeneratedType);
 
             if (!maybeCollectionSpecificConfig.isPresent()) {
                 return Optional.empty();
@@ -133,7 +141,7 @@ public class GeneratorsProviderByType {
         } else if (MapRule.GENERATED_TYPE.isAssignableFrom(generatedType)) {
 
             Optional<Consumer<ConfigDto>> maybeMapSpecificConfig =
-                    getMapSpecificConfigWithKeyValueGenerators(field, generatedType);
+                    getMapSpecificConfigWithKeyValueGenerators(field, generatedType, genericGeneratedType);
 
             if (!maybeMapSpecificConfig.isPresent()) {
                 return Optional.empty();
@@ -182,12 +190,19 @@ public class GeneratorsProviderByType {
     }
 
     @SuppressWarnings("unchecked")
-    private Optional<Consumer<ConfigDto>> getCollectionSpecificConfigWithElementGenerator(Field field, Class<?> generatedType) {
+    private Optional<Consumer<ConfigDto>> getCollectionSpecificConfigWithElementGenerator(Field field,
+                                                                                          Class<?> generatedType,
+                                                                                          Type genericGeneratedType) {
         Class<? extends Collection<?>> generatedTypeCollection = (Class<? extends Collection<?>>) generatedType;
         Class<? extends Collection<?>> concreteCollectionClass =
                 (Class<? extends Collection<?>>) ConcreteClasses.getConcreteCollectionClass(generatedTypeCollection);
 
-        Class<?> elementType = ReflectionUtils.getSingleGenericType(field);
+        Type[] typeArguments = GenericTypes.getTypeArguments(genericGeneratedType, Collection.class);
+        if (typeArguments == null || typeArguments.length != 1) {
+            throw new DtoGeneratorException("Next type must have single generic type: '" +
+                    genericGeneratedType.getTypeName() + "'");
+        }
+        Type elementType = typeArguments[0];
         Optional<Generator<?>> maybeGenerator = getGenerator(field, elementType);
 
         if (!maybeGenerator.isPresent()) {
@@ -206,12 +221,18 @@ public class GeneratorsProviderByType {
     }
 
     @SuppressWarnings("unchecked")
-    private Optional<Consumer<ConfigDto>> getMapSpecificConfigWithKeyValueGenerators(Field field, Class<?> generatedType) {
+    private Optional<Consumer<ConfigDto>> getMapSpecificConfigWithKeyValueGenerators(Field field,
+                                                                                     Class<?> generatedType,
+                                                                                     Type genericGeneratedType) {
         Class<? extends Map<?, ?>> generatedTypeMap = (Class<? extends Map<?, ?>>) generatedType;
         Class<? extends Map<?, ?>> concreteMapClass =
                 (Class<? extends Map<?, ?>>) ConcreteClasses.getConcreteMapClass(generatedTypeMap);
 
-        Class<?>[] keyValueTypes = ReflectionUtils.getPairedGenericType(field);
+        Type[] keyValueTypes = GenericTypes.getTypeArguments(genericGeneratedType, Map.class);
+        if (keyValueTypes == null || keyValueTypes.length != 2) {
+            throw new DtoGeneratorException("Next type must have pair of generic type: '" +
+                    genericGeneratedType.getTypeName() + "'");
+        }
 
         Optional<Generator<?>> maybeKeyGenerator = getGenerator(field, keyValueTypes[0]);
         Optional<Generator<?>> maybeValueGenerator = getGenerator(field, keyValueTypes[1]);
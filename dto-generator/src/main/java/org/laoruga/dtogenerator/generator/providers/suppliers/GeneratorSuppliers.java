@@ -29,9 +29,15 @@ public final class GeneratorSuppliers {
     private final Map<Class<? extends Annotation>, GeneratorSupplierInfo> rulesClassGeneratorInfoMap;
     private final Map<Class<?>, GeneratorSupplierInfo> generatedTypeGeneratorInfoMap;
 
+    /**
+     * Memoized results of lookup by generated type, replaced when a new supplier info is added
+     */
+    private volatile ClassValue<Optional<GeneratorSupplierInfo>> generatorInfoByType;
+
     public GeneratorSuppliers() {
         this.rulesClassGeneratorInfoMap = new HashMap<>();
         this.generatedTypeGeneratorInfoMap = new HashMap<>();
+        this.generatorInfoByType = newGeneratorInfoByType();
     }
 
     /**
@@ -43,7 +49,19 @@ public final class GeneratorSuppliers {
 
     public Optional<GeneratorSupplierInfo> getGeneratorSupplierInfo(Class<?> generatedType) {
         generatedType = generatedType.isPrimitive() ? Primitives.wrap(generatedType) : generatedType;
+        return generatorInfoByType.get(generatedType);
+    }
 
+    private ClassValue<Optional<GeneratorSupplierInfo>> newGeneratorInfoByType() {
+        return new ClassValue<Optional<GeneratorSupplierInfo>>() {
+            @Override
+            protected Optional<GeneratorSupplierInfo> computeValue(Class<?> generatedType) {
+                return findGeneratorSupplierInfo(generatedType);
+            }
+        };
+    }
+
+    private Optional<GeneratorSupplierInfo> findGeneratorSupplierInfo(Class<?> generatedType) {
         GeneratorSupplierInfo foundInfo = generatedTypeGeneratorInfoMap.get(generatedType);
 
         if (foundInfo == null) {
@@ -109,6 +127,9 @@ public final class GeneratorSuppliers {
             }
 
             generatedTypeGeneratorInfoMap.put(info.getGeneratedType(), info);
+
+            // new type may be assignable from the types resolved earlier
+            generatorInfoByType = newGeneratorInfoByType();
         }
     }
 
@@ -1,9 +1,9 @@
 package org.laoruga.dtogenerator.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.math3.util.Pair;
 import org.laoruga.dtogenerator.FieldFilter;
 import org.laoruga.dtogenerator.api.rules.ArrayRule;
 import org.laoruga.dtogenerator.api.rules.CollectionRule;
@@ -19,9 +19,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.laoruga.dtogenerator.rule.RulesInfoHelper.validateType;
 
@@ -36,9 +35,17 @@ import static org.laoruga.dtogenerator.rule.RulesInfoHelper.validateType;
 @Slf4j
 public class RulesInfoExtractor {
 
-    private final FieldFilter fieldsGroupFilter;
+    /**
+     * Group independent rules of the fields, parsed once per field of the DTO class.
+     */
+    private static final ClassValue<Map<Field, FieldRules>> RULES_BY_FIELD = new ClassValue<Map<Field, FieldRules>>() {
+        @Override
+        protected Map<Field, FieldRules> computeValue(Class<?> dtoClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
-    private Field field;
+    private final FieldFilter fieldsGroupFilter;
 
     /**
      * Extracts information from {@link Rule} and {@link Rules} annotations of the field
@@ -48,109 +55,183 @@ public class RulesInfoExtractor {
      * - if {@link Rule} annotations are represented in the correct quantity;
      * - if {@link Rule} annotations matched to the type of the field.
      * <p>
-     * Method is synchronized, it works with {@link RulesInfoExtractor#field}.
+     * Rule annotations of the field are parsed once and cached, {@link RuleInfo} of the rule is built
+     * and validated when the rule is selected by group for the first time. Extractor doesn't have mutable state,
+     * so it may be used by many threads at the same time.
      *
-     * @param fieldToInspect - field containing {@link Rule} and/or {@link Rules} annotations
+     * @param field - field containing {@link Rule} and/or {@link Rules} annotations
      * @return - an empty Optional if Rules excluded by group filter {@link FieldFilter},
      * otherwise {@link RuleInfo} object containing rules information.
      * @throws DtoGeneratorValidationException - if rules annotations quantity check failed.
      */
-    public synchronized Optional<RuleInfo> extractRulesInfo(Field fieldToInspect) throws DtoGeneratorValidationException {
+    public Optional<RuleInfo> extractRulesInfo(Field field) throws DtoGeneratorValidationException {
+        return extractRulesInfo(field, field.getDeclaringClass());
+    }
+
+    /**
+     * Same as {@link RulesInfoExtractor#extractRulesInfo(Field)}, but generic types of the field,
+     * declared in a superclass, are resolved in the context of the DTO class.
+     *
+     * @param field    - field containing {@link Rule} and/or {@link Rules} annotations
+     * @param dtoClass - DTO class, containing the field
+     * @return - an empty Optional if Rules excluded by group filter {@link FieldFilter},
+     * otherwise {@link RuleInfo} object containing rules information.
+     * @throws DtoGeneratorValidationException - if rules annotations quantity check failed.
+     */
+    public Optional<RuleInfo> extractRulesInfo(Field field, Class<?> dtoClass) throws DtoGeneratorValidationException {
+        return RULES_BY_FIELD.get(dtoClass)
+                .computeIfAbsent(field, f -> FieldRules.parse(f, dtoClass))
+                .select(fieldsGroupFilter);
+    }
+
+    /**
+     * Rules of the field with their groups.
+     */
+    @RequiredArgsConstructor
+    private static final class FieldRules {
 
-        this.field = fieldToInspect;
+        private static final FieldRules NO_RULES = new FieldRules(Collections.emptyList(), true);
 
-        Annotation annotation = RulesInfoHelper.getSingleRulesOrNull(field.getAnnotations());
+        private final List<GroupRule> groupRules;
+        private final boolean filteredByGroup;
 
-        if (annotation == null) {
-            log.debug("No rule annotations found on the field: '" + field);
-            return Optional.empty();
-        }
+        static FieldRules parse(Field field, Class<?> dtoClass) {
 
-        RuleInfo ruleInfo = null;
+            Annotation annotation = RulesInfoHelper.getSingleRulesOrNull(field.getAnnotations());
 
-        switch (RulesInfoHelper.getHelperType(annotation)) {
+            if (annotation == null) {
+                log.debug("No rule annotations found on the field: '" + field);
+                return NO_RULES;
+            }
 
-            case RULE:
-            case NESTED_DTO_RULE:
-            case CUSTOM_RULE:
-                String groupName = RulesInfoHelper.getGroupNameFromRuleAnnotation(annotation);
-                if (!skipByGroup(groupName)) {
-                    ruleInfo = buildRuleInfo(annotation, field.getType(), groupName, false);
-                }
-                break;
+            RulesInfoHelper.RuleTypeHelper helperType = RulesInfoHelper.getHelperType(annotation);
 
-            case RULE_FOR_COLLECTION:
-                groupName = RulesInfoHelper.getGroupNameFromRuleAnnotation(annotation);
-                if (!skipByGroup(groupName)) {
-                    ruleInfo = buildCollectionRuleInfo(
-                            (CollectionRule) annotation, groupName, false);
-                }
-                break;
+            switch (helperType) {
 
-            case RULE_FOR_ARRAY:
-                groupName = RulesInfoHelper.getGroupNameFromRuleAnnotation(annotation);
-                if (!skipByGroup(groupName)) {
-                    ruleInfo = buildArrayRuleInfo(
-                            (ArrayRule) annotation, groupName, false);
-                }
-                break;
-
-            case RULE_FOR_MAP:
-                groupName = RulesInfoHelper.getGroupNameFromRuleAnnotation(annotation);
-                ruleInfo = buildMapRuleInfo(
-                        (MapRule) annotation, groupName, false);
-                break;
-
-            case RULES:
-                Optional<Pair<String, Annotation>> maybeGroupAndRules = selectRuleByGroup(annotation);
-                if (maybeGroupAndRules.isPresent()) {
-                    Pair<String, Annotation> groupAndRule = maybeGroupAndRules.get();
-                    ruleInfo = buildRuleInfo(
-                            groupAndRule.getSecond(), field.getType(), groupAndRule.getFirst(), true);
-                }
-                break;
-
-            case RULES_FOR_COLLECTION:
-                maybeGroupAndRules = selectRuleByGroup(annotation);
-                if (maybeGroupAndRules.isPresent()) {
-                    Pair<String, Annotation> groupAndRule = maybeGroupAndRules.get();
-                    ruleInfo = buildCollectionRuleInfo(
-                            (CollectionRule) groupAndRule.getSecond(), groupAndRule.getFirst(), true);
-                }
-                break;
-
-            case RULES_FOR_ARRAY:
-                maybeGroupAndRules = selectRuleByGroup(annotation);
-                if (maybeGroupAndRules.isPresent()) {
-                    Pair<String, Annotation> groupAndRule = maybeGroupAndRules.get();
-                    ruleInfo = buildArrayRuleInfo(
-                            (ArrayRule) groupAndRule.getSecond(), groupAndRule.getFirst(), true);
+                case RULE:
+                case NESTED_DTO_RULE:
+                case CUSTOM_RULE:
+                case RULE_FOR_COLLECTION:
+                case RULE_FOR_ARRAY:
+                    return new FieldRules(Collections.singletonList(
+                            new GroupRule(field, dtoClass, helperType, annotation, false)), true);
+
+                case RULE_FOR_MAP:
+                    return new FieldRules(Collections.singletonList(
+                            new GroupRule(field, dtoClass, helperType, annotation, false)), false);
+
+                case RULES:
+                case RULES_FOR_COLLECTION:
+                case RULES_FOR_ARRAY:
+                case RULES_FOR_MAP:
+                    return new FieldRules(parseRepeatableRules(field, dtoClass, helperType, annotation), true);
+
+                case UNKNOWN:
+                    log.debug("Unknown annotation: '" + annotation.annotationType().getName()
+                            + "' of field: '" + field.getType() + " " + field.getName() + "'");
+                    return NO_RULES;
+
+                default:
+                    throw new IllegalArgumentException("Unexpected helper rule type: " + helperType);
+            }
+        }
+
+        private static List<GroupRule> parseRepeatableRules(Field field,
+                                                            Class<?> dtoClass,
+                                                            RulesInfoHelper.RuleTypeHelper helperType,
+                                                            Annotation rules) {
+            try {
+                Set<Object> uniqueGroups = new HashSet<>();
+                Object ruleAnnotationsArray = rules.getClass().getMethod("value").invoke(rules);
+                List<GroupRule> groupRules = new ArrayList<>();
+
+                for (int i = 0; i < Array.getLength(ruleAnnotationsArray); i++) {
+                    Annotation rule = (Annotation) Array.get(ruleAnnotationsArray, i);
+                    if (uniqueGroups.contains(rule)) {
+                        throw new DtoGeneratorException("Rule group '" + RulesInfoHelper.getGroupNameFromRuleAnnotation(rule)
+                                + "' is repeating for field.");
+                    } else {
+                        uniqueGroups.add(rule);
+                    }
+                    groupRules.add(new GroupRule(field, dtoClass, helperType, rule, true));
                 }
-                break;
-
-            case RULES_FOR_MAP:
-                maybeGroupAndRules = selectRuleByGroup(annotation);
-                if (maybeGroupAndRules.isPresent()) {
-                    Pair<String, Annotation> groupAndRule = maybeGroupAndRules.get();
-                    ruleInfo = buildMapRuleInfo(
-                            (MapRule) groupAndRule.getSecond(), groupAndRule.getFirst(), true);
+                return groupRules;
+            } catch (IllegalAccessException | ClassCastException | NoSuchMethodException | InvocationTargetException e) {
+                throw new DtoGeneratorException("Unexpected exception. Can't get 'group' from rules annotation", e);
+            }
+        }
+
+        Optional<RuleInfo> select(FieldFilter fieldsGroupFilter) {
+            GroupRule matched = null;
+            for (GroupRule groupRule : groupRules) {
+                if (!filteredByGroup || fieldsGroupFilter.isContainsIncludeGroup(groupRule.getGroup())) {
+                    if (matched != null) {
+                        throw new DtoGeneratorException("Ambiguous grouping of the field." +
+                                " Check generators groups and include filters.");
+                    }
+                    matched = groupRule;
                 }
-                break;
+            }
+            return matched == null ? Optional.empty() : Optional.of(matched.getRuleInfo());
+        }
+    }
 
-            case UNKNOWN:
-                log.debug("Unknown annotation: '" + annotation.annotationType().getName()
-                        + "' of field: '" + field.getType() + " " + field.getName() + "'");
-                break;
+    /**
+     * Rule of the group, {@link RuleInfo} is built lazily, because rules of not included groups
+     * aren't validated.
+     */
+    @Getter
+    private static final class GroupRule {
+
+        private final Field field;
+        private final Class<?> dtoClass;
+        private final RulesInfoHelper.RuleTypeHelper helperType;
+        private final Annotation rule;
+        private final String group;
+        private final boolean multipleRules;
+        @Getter(AccessLevel.NONE)
+        private volatile RuleInfo ruleInfo;
+
+        GroupRule(Field field,
+                  Class<?> dtoClass,
+                  RulesInfoHelper.RuleTypeHelper helperType,
+                  Annotation rule,
+                  boolean multipleRules) {
+            this.field = field;
+            this.dtoClass = dtoClass;
+            this.helperType = helperType;
+            this.rule = rule;
+            this.group = RulesInfoHelper.getGroupNameFromRuleAnnotation(rule);
+            this.multipleRules = multipleRules;
+        }
 
-            default:
-                throw new IllegalArgumentException("Unexpected helper rule type: "
-                        + RulesInfoHelper.getHelperType(annotation));
+        RuleInfo getRuleInfo() {
+            RuleInfo result = ruleInfo;
+            if (result == null) {
+                result = buildRuleInfo();
+                ruleInfo = result;
+            }
+            return result;
         }
 
-        return Optional.ofNullable(ruleInfo);
+        private RuleInfo buildRuleInfo() {
+            switch (helperType) {
+                case RULE_FOR_COLLECTION:
+                case RULES_FOR_COLLECTION:
+                    return buildCollectionRuleInfo(field, dtoClass, (CollectionRule) rule, group, multipleRules);
+                case RULE_FOR_ARRAY:
+                case RULES_FOR_ARRAY:
+                    return buildArrayRuleInfo(field, (ArrayRule) rule, group, multipleRules);
+                case RULE_FOR_MAP:
+                case RULES_FOR_MAP:
+                    return buildMapRuleInfo(field, dtoClass, (MapRule) rule, group, multipleRules);
+                default:
+                    return RulesInfoExtractor.buildRuleInfo(field, rule, field.getType(), group, multipleRules);
+            }
+        }
     }
 
-    private RuleInfoSimple buildRuleInfo(Annotation rule, Class<?> requiredType, String groupName, boolean isMultipleRules) {
+    private static RuleInfoSimple buildRuleInfo(Field field, Annotation rule, Class<?> requiredType, String groupName, boolean isMultipleRules) {
 
         validateType(requiredType, rule);
 
@@ -164,17 +245,19 @@ public class RulesInfoExtractor {
                 .build();
     }
 
-    private RuleInfoList buildCollectionRuleInfo(CollectionRule collectionRule,
-                                                 String groupName,
-                                                 boolean isMultipleRules) {
+    private static RuleInfoList buildCollectionRuleInfo(Field field,
+                                                        Class<?> dtoClass,
+                                                        CollectionRule collectionRule,
+                                                        String groupName,
+                                                        boolean isMultipleRules) {
 
-        Class<?> elementType = ReflectionUtils.getSingleGenericType(field);
+        Class<?> elementType = ReflectionUtils.getSingleGenericType(field, dtoClass);
         Annotation elementRule = ReflectionUtils.getSingleRuleFromEntryOrDefaultForType(collectionRule.element(), elementType);
 
         validateType(elementType, elementRule);
         validateType(field.getType(), collectionRule);
 
-        RuleInfoSimple collectionElementInfo = buildRuleInfo(elementRule, elementType, groupName, false);
+        RuleInfoSimple collectionElementInfo = buildRuleInfo(field, elementRule, elementType, groupName, false);
 
         RuleInfoSimple collectionInfo = RuleInfoSimple.builder()
                 .rule(collectionRule)
@@ -193,7 +276,7 @@ public class RulesInfoExtractor {
 
     }
 
-    private RuleInfo buildArrayRuleInfo(ArrayRule arrayRule, String groupName, boolean isMultipleRules) {
+    private static RuleInfo buildArrayRuleInfo(Field field, ArrayRule arrayRule, String groupName, boolean isMultipleRules) {
 
         Class<?> elementType = ReflectionUtils.getArrayElementType(field.getType());
         Annotation elementRule = ReflectionUtils.getSingleRuleFromEntryOrDefaultForType(arrayRule.element(), elementType);
@@ -201,7 +284,7 @@ public class RulesInfoExtractor {
         validateType(elementType, elementRule);
         validateType(field.getType(), arrayRule);
 
-        RuleInfoSimple arrayElementInfo = buildRuleInfo(elementRule, elementType, groupName, false);
+        RuleInfoSimple arrayElementInfo = buildRuleInfo(field, elementRule, elementType, groupName, false);
 
         RuleInfoSimple arrayInfo = RuleInfoSimple.builder()
                 .rule(arrayRule)
@@ -219,9 +302,9 @@ public class RulesInfoExtractor {
                 .build();
     }
 
-    private RuleInfoMap buildMapRuleInfo(MapRule mapRule, String groupName, boolean isMultipleRules) {
+    private static RuleInfoMap buildMapRuleInfo(Field field, Class<?> dtoClass, MapRule mapRule, String groupName, boolean isMultipleRules) {
 
-        Class<?>[] keyValueTypes = ReflectionUtils.getPairedGenericType(field);
+        Class<?>[] keyValueTypes = ReflectionUtils.getPairedGenericType(field, dtoClass);
 
         Annotation keyRule = ReflectionUtils.getSingleRuleFromEntryOrDefaultForType(mapRule.key(), keyValueTypes[0]);
         Annotation valueRule = ReflectionUtils.getSingleRuleFromEntryOrDefaultForType(mapRule.value(), keyValueTypes[1]);
@@ -231,10 +314,10 @@ public class RulesInfoExtractor {
         validateType(keyValueTypes[1], valueRule);
 
         RuleInfoSimple mapKeyRuleInfo =
-                buildRuleInfo(keyRule, keyValueTypes[0], groupName, false);
+                buildRuleInfo(field, keyRule, keyValueTypes[0], groupName, false);
 
         RuleInfoSimple mapValueRuleInfo =
-                buildRuleInfo(valueRule, keyValueTypes[1], groupName, false);
+                buildRuleInfo(field, valueRule, keyValueTypes[1], groupName, false);
 
         RuleInfoSimple mapRuleInfo = RuleInfoSimple.builder()
                 .rule(mapRule)
@@ -252,37 +335,4 @@ public class RulesInfoExtractor {
                 .build();
     }
 
-    private boolean skipByGroup(String groupName) {
-        return !fieldsGroupFilter.isContainsIncludeGroup(groupName);
-    }
-
-    private Optional<Pair<String, Annotation>> selectRuleByGroup(Annotation rules) {
-        try {
-            Set<Object> uniqueGroups = new HashSet<>();
-            Object ruleAnnotationsArray = rules.getClass().getMethod("value").invoke(rules);
-
-            Optional<Pair<String, Annotation>> matched = Optional.empty();
-            for (int i = 0; i < Array.getLength(ruleAnnotationsArray); i++) {
-                Annotation rule = (Annotation) Array.get(ruleAnnotationsArray, i);
-                String checkedGroup = RulesInfoHelper.getGroupNameFromRuleAnnotation(rule);
-                if (uniqueGroups.contains(rule)) {
-                    throw new DtoGeneratorException("Rule group '" + checkedGroup + "' is repeating for field.");
-                } else {
-                    uniqueGroups.add(rule);
-                }
-                if (getFieldsGroupFilter().isContainsIncludeGroup(checkedGroup)) {
-                    if (!matched.isPresent()) {
-                        matched = Optional.of(Pair.create(checkedGroup, rule));
-                    } else {
-                        throw new DtoGeneratorException("Ambiguous grouping of the field." +
-                                " Check generators groups and include filters.");
-                    }
-                }
-            }
-            return matched;
-        } catch (IllegalAccessException | ClassCastException | NoSuchMethodException | InvocationTargetException e) {
-            throw new DtoGeneratorException("Unexpected exception. Can't get 'group' from rules annotation", e);
-        }
-    }
-
 }
@@ -0,0 +1,80 @@
+package org.laoruga.dtogenerator.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Reflection metadata of the class, which is used during generators preparation.
+ * <p>
+ * Metadata is computed once per class and is kept in {@link ClassValue}, so it is collected together
+ * with the class, when the class is unloaded. The same {@link Field} instances are returned on each call,
+ * so their generic types and annotations are parsed once too.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@Slf4j
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    /**
+     * Non-final fields of the class and its superclasses, fields of superclasses go first.
+     */
+    @Getter
+    private final List<Field> writableFields;
+
+    /**
+     * Fields of the class and its superclasses by name, fields of the class hide fields of superclasses.
+     */
+    private final Map<String, Field> fieldsByName;
+
+    private ClassMetadata(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        Map<String, Field> byName = new HashMap<>();
+
+        if (type.getSuperclass() != null && type.getSuperclass() != Object.class) {
+            ClassMetadata superclassMetadata = of(type.getSuperclass());
+            fields.addAll(superclassMetadata.getWritableFields());
+            byName.putAll(superclassMetadata.fieldsByName);
+        }
+
+        for (Field field : type.getDeclaredFields()) {
+            byName.put(field.getName(), field);
+            if (Modifier.isFinal(field.getModifiers())) {
+                log.info("Skipping final field '" + field.getType() + " " + field.getName() + "'");
+                continue;
+            }
+            fields.add(field);
+        }
+
+        this.writableFields = Collections.unmodifiableList(fields);
+        this.fieldsByName = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * @param type class
+     * @return cached metadata of the class
+     */
+    public static ClassMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * @param fieldName name of the field declared in the class or in its superclasses
+     * @return field or null if not found
+     */
+    public Field getFieldOrNull(String fieldName) {
+        return fieldsByName.get(fieldName);
+    }
+
+}
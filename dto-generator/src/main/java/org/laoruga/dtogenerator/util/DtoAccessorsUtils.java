@@ -0,0 +1,76 @@
+package org.laoruga.dtogenerator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.laoruga.dtogenerator.api.accessors.DtoAccessors;
+import org.laoruga.dtogenerator.api.accessors.FieldSetter;
+import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+/**
+ * Lookup of the {@link DtoAccessors} generated at compile time.
+ * Result of the lookup is cached per DTO class, including absence of generated accessors.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DtoAccessorsUtils {
+
+    private static final ClassValue<Optional<DtoAccessors<?>>> ACCESSORS = new ClassValue<Optional<DtoAccessors<?>>>() {
+        @Override
+        protected Optional<DtoAccessors<?>> computeValue(Class<?> dtoClass) {
+            return loadAccessors(dtoClass);
+        }
+    };
+
+    private static Optional<DtoAccessors<?>> loadAccessors(Class<?> dtoClass) {
+        if (dtoClass.isPrimitive() || dtoClass.isArray()) {
+            return Optional.empty();
+        }
+
+        Class<?> accessorsClass;
+        try {
+            accessorsClass = Class.forName(
+                    dtoClass.getName() + DtoAccessors.CLASS_NAME_SUFFIX, true, dtoClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+
+        if (!DtoAccessors.class.isAssignableFrom(accessorsClass)) {
+            log.warn("Class '{}' doesn't implement '{}' and is ignored", accessorsClass, DtoAccessors.class);
+            return Optional.empty();
+        }
+
+        try {
+            log.debug("Generated accessors of the DTO '{}' found", dtoClass);
+            return Optional.of((DtoAccessors<?>) ReflectionUtils.createInstance(accessorsClass));
+        } catch (Exception e) {
+            throw new DtoGeneratorException("Unable to instantiate generated accessors: '" + accessorsClass + "'", e);
+        }
+    }
+
+    /**
+     * @param dtoClass DTO class
+     * @return accessors generated for the DTO class, or empty optional
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<DtoAccessors<T>> getAccessors(Class<T> dtoClass) {
+        return (Optional<DtoAccessors<T>>) (Optional<?>) ACCESSORS.get(dtoClass);
+    }
+
+    /**
+     * @param field field of DTO
+     * @return generated setter of the field, or null if there is no one
+     */
+    public static FieldSetter getFieldSetterOrNull(Field field) {
+        return ACCESSORS.get(field.getDeclaringClass())
+                .map(accessors -> accessors.getFieldSetter(field.getName()))
+                .orElse(null);
+    }
+
+}
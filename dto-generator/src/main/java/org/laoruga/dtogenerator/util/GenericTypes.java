@@ -0,0 +1,245 @@
+package org.laoruga.dtogenerator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves generic types of the fields walking {@link ParameterizedType}, {@link WildcardType},
+ * {@link TypeVariable} and {@link GenericArrayType}, without parsing of the type names.
+ * <p>
+ * Type variables are substituted with the type arguments passed by subclasses, for example, type of the field
+ * {@code List<T> items} declared in {@code Base<T>} is {@code List<String>} in the class {@code Dto extends Base<String>}.
+ * Unbound type variables are replaced with their bounds, bounded wildcards - with their bounds too,
+ * unbounded wildcards ({@code ?}) are kept, they don't define type of generated values.
+ * Resolved types of the fields are cached per class owning the fields.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GenericTypes {
+
+    private static final ClassValue<Map<Field, Type>> FIELD_TYPES = new ClassValue<Map<Field, Type>>() {
+        @Override
+        protected Map<Field, Type> computeValue(Class<?> ownerClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * @param field      field of the owner class or of its superclass
+     * @param ownerClass class, in the context of which type variables are resolved
+     * @return resolved generic type of the field
+     */
+    public static Type getFieldType(Field field, Class<?> ownerClass) {
+        return FIELD_TYPES.get(ownerClass).computeIfAbsent(field, f -> resolveFieldType(f, ownerClass));
+    }
+
+    /**
+     * @param type resolved type
+     * @return class of the type
+     */
+    public static Class<?> getRawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(getRawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            return getRawType(getBound((WildcardType) type));
+        }
+        if (type instanceof TypeVariable) {
+            return getRawType(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        throw new IllegalArgumentException("Unexpected type: '" + type + "'");
+    }
+
+    /**
+     * Returns type arguments of the generic supertype, for example, for the type {@code ArrayList<String>}
+     * and the supertype {@code Collection} - {@code [String]}.
+     *
+     * @param type             resolved type
+     * @param genericSupertype generic class, which is the type or its supertype
+     * @return type arguments or null if the type is raw, has unbounded wildcard arguments
+     * or isn't a subtype of the generic supertype
+     */
+    public static Type[] getTypeArguments(Type type, Class<?> genericSupertype) {
+        Class<?> rawType = getRawType(type);
+
+        if (!genericSupertype.isAssignableFrom(rawType)) {
+            return null;
+        }
+
+        if (rawType == genericSupertype) {
+            if (!(type instanceof ParameterizedType)) {
+                return null;
+            }
+            Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+            for (Type typeArgument : typeArguments) {
+                if (typeArgument instanceof WildcardType) {
+                    return null;
+                }
+            }
+            return typeArguments;
+        }
+
+        Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        if (type instanceof ParameterizedType) {
+            bind(rawType, ((ParameterizedType) type).getActualTypeArguments(), bindings);
+        } else if (rawType.getTypeParameters().length > 0) {
+            return null;
+        }
+
+        List<Type> supertypes = new ArrayList<>();
+        if (rawType.getGenericSuperclass() != null) {
+            supertypes.add(rawType.getGenericSuperclass());
+        }
+        supertypes.addAll(Arrays.asList(rawType.getGenericInterfaces()));
+
+        for (Type supertype : supertypes) {
+            Type[] typeArguments = getTypeArguments(resolve(supertype, bindings), genericSupertype);
+            if (typeArguments != null) {
+                return typeArguments;
+            }
+        }
+
+        return null;
+    }
+
+    private static Type resolveFieldType(Field field, Class<?> ownerClass) {
+        Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        Deque<ParameterizedType> superclasses = new ArrayDeque<>();
+
+        for (Class<?> clazz = ownerClass; clazz != null && clazz != field.getDeclaringClass(); clazz = clazz.getSuperclass()) {
+            if (clazz.getGenericSuperclass() instanceof ParameterizedType) {
+                superclasses.push((ParameterizedType) clazz.getGenericSuperclass());
+            }
+        }
+
+        // type arguments of the superclass refer to type variables of the subclass, so they are bound from the owner
+        for (Iterator<ParameterizedType> it = superclasses.descendingIterator(); it.hasNext(); ) {
+            ParameterizedType superclass = it.next();
+            Type[] typeArguments = superclass.getActualTypeArguments();
+            Type[] resolvedArguments = new Type[typeArguments.length];
+            for (int i = 0; i < typeArguments.length; i++) {
+                resolvedArguments[i] = resolve(typeArguments[i], bindings);
+            }
+            bind((Class<?>) superclass.getRawType(), resolvedArguments, bindings);
+        }
+
+        return resolve(field.getGenericType(), bindings);
+    }
+
+    private static void bind(Class<?> genericClass, Type[] typeArguments, Map<TypeVariable<?>, Type> bindings) {
+        TypeVariable<?>[] typeParameters = genericClass.getTypeParameters();
+        for (int i = 0; i < typeParameters.length && i < typeArguments.length; i++) {
+            bindings.put(typeParameters[i], typeArguments[i]);
+        }
+    }
+
+    private static Type resolve(Type type, Map<TypeVariable<?>, Type> bindings) {
+        if (type instanceof Class) {
+            return type;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type[] typeArguments = parameterizedType.getActualTypeArguments();
+            Type[] resolvedArguments = new Type[typeArguments.length];
+            for (int i = 0; i < typeArguments.length; i++) {
+                resolvedArguments[i] = resolve(typeArguments[i], bindings);
+            }
+            return new ResolvedParameterizedType(
+                    (Class<?>) parameterizedType.getRawType(),
+                    resolvedArguments,
+                    parameterizedType.getOwnerType());
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            if (wildcardType.getLowerBounds().length == 0 && wildcardType.getUpperBounds()[0] == Object.class) {
+                return wildcardType;
+            }
+            return resolve(getBound(wildcardType), bindings);
+        }
+        if (type instanceof TypeVariable) {
+            Type bound = bindings.get(type);
+            // raw class of the bound prevents infinite recursion on recursive bounds like 'T extends Comparable<T>'
+            return bound != null ? bound : getRawType(type);
+        }
+        if (type instanceof GenericArrayType) {
+            Type componentType = resolve(((GenericArrayType) type).getGenericComponentType(), bindings);
+            return Array.newInstance(getRawType(componentType), 0).getClass();
+        }
+        throw new IllegalArgumentException("Unexpected type: '" + type + "'");
+    }
+
+    /**
+     * @return lower bound of '? super X' wildcard, otherwise upper bound
+     */
+    private static Type getBound(WildcardType wildcardType) {
+        return wildcardType.getLowerBounds().length > 0
+                ? wildcardType.getLowerBounds()[0]
+                : wildcardType.getUpperBounds()[0];
+    }
+
+    private static final class ResolvedParameterizedType implements ParameterizedType {
+
+        private final Class<?> rawType;
+        private final Type[] typeArguments;
+        private final Type ownerType;
+
+        ResolvedParameterizedType(Class<?> rawType, Type[] typeArguments, Type ownerType) {
+            this.rawType = rawType;
+            this.typeArguments = typeArguments;
+            this.ownerType = ownerType;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType that = (ParameterizedType) o;
+            return rawType.equals(that.getRawType()) &&
+                    Objects.equals(ownerType, that.getOwnerType()) &&
+                    Arrays.equals(typeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(typeArguments) ^ Objects.hashCode(ownerType) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner arguments = new StringJoiner(", ", "<", ">");
+            for (Type typeArgument : typeArguments) {
+                arguments.add(typeArgument.getTypeName());
+            }
+            return rawType.getName() + arguments;
+        }
+    }
+
+}
@@ -3,10 +3,11 @@ package org.laoruga.dtogenerator.util;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.math3.random.RandomDataGenerator;
 import org.apache.commons.math3.util.Precision;
-import org.apache.commons.text.RandomStringGenerator;
+import org.laoruga.dtogenerator.GenerationContext;
+import org.laoruga.dtogenerator.api.RandomSource;
 import org.laoruga.dtogenerator.constants.CharSet;
+import org.laoruga.dtogenerator.util.random.CharsetSampler;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -14,8 +15,14 @@ import java.math.RoundingMode;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
+ * Random values are taken from the {@link RandomSource} of the generation context bound to the current thread
+ * by DTO generator, see {@link GenerationContext#currentRandomSource()}. When no context is bound,
+ * values are taken from {@link ThreadLocalRandom}. In both cases each thread has its own random state
+ * and concurrent generation isn't serialized on a shared generator.
+ *
  * @author Il'dar Valitov
  * Created on 10.05.2022
  */
@@ -24,23 +31,111 @@ import java.util.Random;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RandomUtils {
 
-    private static final RandomStringGenerator DEFAULT_STRING_GENERATOR =
-            new RandomStringGenerator.Builder().selectFrom(CharSet.DEFAULT_CHARSET.toCharArray()).build();
+    /**
+     * Powers of ten, which are exact doubles and keep scaled values within the exact integers range.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+    private static final double MAX_EXACT_DOUBLE = 0x1.0p53;
 
+    private static final CharsetSampler DEFAULT_CHARSET_SAMPLER = new CharsetSampler(CharSet.DEFAULT_CHARSET);
+
+    /**
+     * @deprecated shared instance is contended when used from several threads,
+     * use {@link RandomUtils#source()} instead
+     */
+    @Deprecated
     public static final Random RANDOM = new Random();
 
-    private static final RandomDataGenerator RANDOM_DATA_GENERATOR = new RandomDataGenerator();
+    /**
+     * @return random generator of the current thread
+     * @deprecated it ignores the source selected for DTO generator, use {@link RandomUtils#source()} instead
+     */
+    @Deprecated
+    public static Random random() {
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * @return random source of the generation context bound to the current thread or default one
+     */
+    public static RandomSource source() {
+        return GenerationContext.currentRandomSource();
+    }
 
+    /**
+     * @return random value in the range [0, 1)
+     */
+    public static double nextDouble() {
+        return source().nextDouble();
+    }
+
+    /**
+     * Returns one of the values having the passed number of digits after the dot, chosen uniformly.
+     * Values are sampled as integers scaled by 10^precision, so they are within the bounds
+     * and the bounds have the same probability as the other values.
+     * When no such values fall within the bounds, or they can't be represented exactly,
+     * uniformly distributed value of the range is returned rounded to the precision when possible.
+     *
+     * @param minValue  min value inclusive
+     * @param maxValue  max value inclusive, bounds may be passed in any order
+     * @param precision number of digits after the dot
+     * @return random double
+     */
     public static double nextDouble(double minValue, double maxValue, int precision) {
-        double generated = minValue + RANDOM.nextDouble() * (maxValue - minValue);
-        return Precision.round(generated, precision);
+        double min = Math.min(minValue, maxValue);
+        double max = Math.max(minValue, maxValue);
+
+        if (precision >= 0 && precision < POWERS_OF_TEN.length) {
+            double scale = POWERS_OF_TEN[precision];
+            double minScaled = Math.rint(min * scale);
+            double maxScaled = Math.rint(max * scale);
+            if (Math.abs(minScaled) <= MAX_EXACT_DOUBLE && Math.abs(maxScaled) <= MAX_EXACT_DOUBLE) {
+                // scaled bounds are checked in the same way as the result is computed
+                long from = (long) (minScaled / scale >= min ? minScaled : minScaled + 1);
+                long to = (long) (maxScaled / scale <= max ? maxScaled : maxScaled - 1);
+                if (from <= to) {
+                    return nextLong(from, to) / scale;
+                }
+            }
+        }
+
+        double generated = min + source().nextDouble() * (max - min);
+        double rounded = Precision.round(generated, precision);
+        return rounded >= min && rounded <= max ? rounded : generated;
     }
 
+    /**
+     * Float version of {@link #nextDouble(double, double, int)}, the result is the float nearest
+     * to the chosen decimal value.
+     *
+     * @param minValue  min value inclusive
+     * @param maxValue  max value inclusive, bounds may be passed in any order
+     * @param precision number of digits after the dot
+     * @return random float
+     */
     public static float nextFloat(float minValue, float maxValue, int precision) {
-        float generated = minValue + RANDOM.nextFloat() * (maxValue - minValue);
-        return BigDecimal.valueOf(generated)
-                .setScale(precision, RoundingMode.HALF_UP)
-                .floatValue();
+        float min = Math.min(minValue, maxValue);
+        float max = Math.max(minValue, maxValue);
+
+        if (precision >= 0 && precision < POWERS_OF_TEN.length) {
+            double scale = POWERS_OF_TEN[precision];
+            double minScaled = Math.rint(min * scale);
+            double maxScaled = Math.rint(max * scale);
+            if (Math.abs(minScaled) <= MAX_EXACT_DOUBLE && Math.abs(maxScaled) <= MAX_EXACT_DOUBLE) {
+                // float bounds aren't decimal, so they are compared with the values rounded to float
+                long from = (long) ((float) (minScaled / scale) >= min ? minScaled : minScaled + 1);
+                long to = (long) ((float) (maxScaled / scale) <= max ? maxScaled : maxScaled - 1);
+                if (from <= to) {
+                    return (float) (nextLong(from, to) / scale);
+                }
+            }
+        }
+
+        float generated = min + source().nextFloat() * (max - min);
+        float rounded = Precision.round(generated, precision);
+        return rounded >= min && rounded <= max ? rounded : generated;
     }
 
     /**
@@ -49,11 +144,12 @@ public final class RandomUtils {
      *                  must be greater than minNumber or equal
      * @return random int
      */
-    public static synchronized int nextInt(int minNumber, int maxNumber) {
+    public static int nextInt(int minNumber, int maxNumber) {
         if (minNumber == maxNumber) {
             return minNumber;
         }
-        return RANDOM_DATA_GENERATOR.nextInt(minNumber, maxNumber);
+        checkBounds(minNumber, maxNumber);
+        return (int) source().nextLong(minNumber, (long) maxNumber + 1);
     }
 
     public static Short nextShort(short minNumber, short maxNumber) {
@@ -74,7 +170,7 @@ public final class RandomUtils {
     }
 
     public static boolean nextBoolean() {
-        return RANDOM.nextInt(2) == 1;
+        return source().nextBoolean();
     }
 
     /*
@@ -117,15 +213,34 @@ public final class RandomUtils {
         return items[nextInt(0, items.length - 1)];
     }
 
-    public static synchronized long nextLong(long minNumber, long maxNumber) {
+    /**
+     * @param minNumber min value inclusive
+     * @param maxNumber max value inclusive
+     * @return random long
+     */
+    public static long nextLong(long minNumber, long maxNumber) {
         if (minNumber == maxNumber) {
             return minNumber;
         }
-        return RANDOM_DATA_GENERATOR.nextLong(minNumber, maxNumber);
+        checkBounds(minNumber, maxNumber);
+        if (maxNumber < Long.MAX_VALUE) {
+            return source().nextLong(minNumber, maxNumber + 1);
+        }
+        if (minNumber > Long.MIN_VALUE) {
+            return source().nextLong(minNumber - 1, maxNumber) + 1;
+        }
+        return source().nextLong();
     }
 
-    public static synchronized long nextLong() {
-        return RANDOM.nextLong();
+    public static long nextLong() {
+        return source().nextLong();
+    }
+
+    private static void checkBounds(long minNumber, long maxNumber) {
+        if (minNumber > maxNumber) {
+            throw new IllegalArgumentException("Min value '" + minNumber + "'" +
+                    " must be less than or equal to max value '" + maxNumber + "'");
+        }
     }
 
     public static Number nextNumber(Number minNumber, Number maxNumber) {
@@ -179,24 +294,83 @@ public final class RandomUtils {
     }
 
 
+    /**
+     * Creates sampler of the charset on each call, {@link CharsetSampler} should be kept
+     * when strings of the same charset are generated repeatedly.
+     *
+     * @param chars  charset
+     * @param length length of the string
+     * @return string of the random characters
+     */
     public static String nextString(char[] chars, int length) {
-        return new RandomStringGenerator.Builder()
-                .selectFrom(chars).build().generate(length);
+        return new CharsetSampler(chars).nextString(length);
     }
 
     public static String nextString(int length) {
-        return DEFAULT_STRING_GENERATOR.generate(length);
+        return DEFAULT_CHARSET_SAMPLER.nextString(length);
     }
 
+    /**
+     * Returns one of the values of the passed scale within the bounds, chosen uniformly.
+     * Unscaled values are sampled as longs when they fit, otherwise as {@link BigInteger}.
+     *
+     * @param minValue  min value inclusive
+     * @param maxValue  max value inclusive, bounds may be passed in any order
+     * @param precision scale of the result
+     * @return random BigDecimal, or the min value if there are no values of the scale within the bounds
+     */
     public static BigDecimal nextBigDecimal(BigDecimal minValue, BigDecimal maxValue, int precision) {
-        BigDecimal randomBigDecimal = minValue.add(
-                BigDecimal.valueOf(Math.random()).multiply(maxValue.subtract(minValue))
-        );
-        return randomBigDecimal.setScale(precision, RoundingMode.HALF_UP);
+        BigDecimal min = minValue.min(maxValue);
+        BigDecimal max = minValue.max(maxValue);
+
+        BigInteger from = min.setScale(precision, RoundingMode.CEILING).unscaledValue();
+        BigInteger to = max.setScale(precision, RoundingMode.FLOOR).unscaledValue();
+
+        if (from.compareTo(to) > 0) {
+            return min;
+        }
+        if (from.bitLength() < Long.SIZE && to.bitLength() < Long.SIZE) {
+            return BigDecimal.valueOf(nextLong(from.longValue(), to.longValue()), precision);
+        }
+        return new BigDecimal(nextBigIntegerInRange(from, to), precision);
     }
 
+    /**
+     * @param minValue min value inclusive
+     * @param maxValue max value inclusive, bounds may be passed in any order
+     * @return uniformly distributed random BigInteger
+     */
     public static BigInteger nextBigInteger(BigInteger minValue, BigInteger maxValue) {
-        return nextBigDecimal(new BigDecimal(minValue), new BigDecimal(maxValue), 0).toBigInteger();
+        BigInteger min = minValue.min(maxValue);
+        BigInteger max = minValue.max(maxValue);
+        if (min.bitLength() < Long.SIZE && max.bitLength() < Long.SIZE) {
+            return BigInteger.valueOf(nextLong(min.longValue(), max.longValue()));
+        }
+        return nextBigIntegerInRange(min, max);
+    }
+
+    /**
+     * Values of the bit length of the range are drawn until the value falls within the range,
+     * at least half of the draws are accepted.
+     */
+    private static BigInteger nextBigIntegerInRange(BigInteger min, BigInteger max) {
+        BigInteger bound = max.subtract(min).add(BigInteger.ONE);
+        int bits = bound.bitLength();
+        byte[] bytes = new byte[(bits + 7) / 8];
+        int excessBits = bytes.length * 8 - bits;
+        BigInteger value;
+        do {
+            RandomSource source = source();
+            for (int i = 0; i < bytes.length; i += 8) {
+                long random = source.nextLong();
+                for (int j = i; j < i + 8 && j < bytes.length; j++, random >>>= 8) {
+                    bytes[j] = (byte) random;
+                }
+            }
+            bytes[0] &= (byte) (0xFF >>> excessBits);
+            value = new BigInteger(1, bytes);
+        } while (value.compareTo(bound) >= 0);
+        return min.add(value);
     }
 
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package org.laoruga.dtogenerator.util;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.primitives.Primitives;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -12,16 +11,19 @@ import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorValidationException;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.joining;
 
@@ -32,90 +34,76 @@ import static java.util.stream.Collectors.joining;
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ReflectionUtils {
-    private static final String TYPE_WITH_SINGLE_GENERIC_TYPE_REGEXP = "[a-zA-Z0-9_.]*<[$a-zA-Z0-9_.]*>";
-    private static final String TYPE_WITH_PAIRED_GENERIC_TYPE_REGEXP = "[a-zA-Z0-9_.]*<[$a-zA-Z0-9_.]*, [$a-zA-Z0-9_.]*>";
-    private static final Pattern SINGLE_GENERIC_TYPE_REGEXP = Pattern.compile("<([$a-zA-Z0-9_.]*)>");
-    private static final Pattern PAIRED_GENERIC_TYPE_REGEXP = Pattern.compile("<([$a-zA-Z0-9_.]*), ([$a-zA-Z0-9_.]*)>");
-    private static final Pattern ARRAY_TYPE_REGEXP = Pattern.compile("\\[L([$a-zA-Z0-9_.]*);");
-
-    private static final Map<Class<?>, Class<?>> PRIMITIVE_ARRAYS;
-
-    static {
-        Map<Class<?>, Class<?>> primitives = new HashMap<>();
-        primitives.put(byte[].class, Byte.TYPE);
-        primitives.put(short[].class, Short.TYPE);
-        primitives.put(char[].class, Character.TYPE);
-        primitives.put(int[].class, Integer.TYPE);
-        primitives.put(long[].class, Long.TYPE);
-        primitives.put(float[].class, Float.TYPE);
-        primitives.put(double[].class, Double.TYPE);
-        primitives.put(boolean[].class, Boolean.TYPE);
-        PRIMITIVE_ARRAYS = ImmutableMap.copyOf(primitives);
-    }
-
-    public static Class<?> extractSingeGenericType(String typeName) {
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class);
 
-        if (!typeName.matches(TYPE_WITH_SINGLE_GENERIC_TYPE_REGEXP)) {
-            throw new DtoGeneratorException("Next type must have single generic type: '" + typeName + "'");
+    private static final ClassValue<Supplier<?>> NO_ARGS_INSTANTIATORS = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> classToCreate) {
+            return resolveNoArgsInstantiator(classToCreate);
         }
+    };
 
-        Matcher matcher = SINGLE_GENERIC_TYPE_REGEXP.matcher(typeName);
-
-        if (!matcher.find()) {
-            throw new DtoGeneratorException("Unexpected error. Cannot find generic type using next regex pattern: "
-                    + SINGLE_GENERIC_TYPE_REGEXP.pattern() + " in type: '" + typeName + "'");
-        }
-        return getClass(matcher.group(1), typeName);
+    /**
+     * @param field field of collection type
+     * @return element type of the collection, type variables are resolved in the context of the declaring class
+     * @throws DtoGeneratorException if the field doesn't have single generic type
+     */
+    public static Class<?> getSingleGenericType(Field field) throws DtoGeneratorException {
+        return getSingleGenericType(field, field.getDeclaringClass());
     }
 
-    public static Class<?>[] extractPairedGenericType(String typeName) {
-
-        if (!typeName.matches(TYPE_WITH_PAIRED_GENERIC_TYPE_REGEXP)) {
-            throw new DtoGeneratorException("Next type must have pair of generic type: '" + typeName + "'");
-        }
-
-        Matcher matcher = PAIRED_GENERIC_TYPE_REGEXP.matcher(typeName);
-
-        if (!matcher.find()) {
-            throw new DtoGeneratorException("Cannot find pair of generic types using next regex pattern: "
-                    + PAIRED_GENERIC_TYPE_REGEXP.pattern() + " in type: '" + typeName + "'");
+    /**
+     * @param field      field of collection type
+     * @param ownerClass class, in the context of which type variables are resolved
+     * @return element type of the collection
+     * @throws DtoGeneratorException if the field doesn't have single generic type
+     */
+    public static Class<?> getSingleGenericType(Field field, Class<?> ownerClass) throws DtoGeneratorException {
+        Type fieldType = GenericTypes.getFieldType(field, ownerClass);
+        Class<?> rawType = GenericTypes.getRawType(fieldType);
+        Type[] typeArguments = GenericTypes.getTypeArguments(fieldType,
+                Collection.class.isAssignableFrom(rawType) ? Collection.class : rawType);
+
+        if (typeArguments == null || typeArguments.length != 1) {
+            throw new DtoGeneratorException("Next type must have single generic type: '" + fieldType.getTypeName() + "'");
         }
-        return new Class[]{getClass(matcher.group(1), typeName), getClass(matcher.group(2), typeName)};
-    }
 
-    public static Class<?> getSingleGenericType(Field field) throws DtoGeneratorException {
-        return extractSingeGenericType(field.getGenericType().getTypeName());
+        return GenericTypes.getRawType(typeArguments[0]);
     }
 
+    /**
+     * @param field field of map type
+     * @return key and value types of the map, type variables are resolved in the context of the declaring class
+     * @throws DtoGeneratorException if the field doesn't have pair of generic types
+     */
     public static Class<?>[] getPairedGenericType(Field field) throws DtoGeneratorException {
-        return extractPairedGenericType(field.getGenericType().getTypeName());
+        return getPairedGenericType(field, field.getDeclaringClass());
     }
 
-    public static Class<?> getArrayElementType(Class<?> arrayType) throws DtoGeneratorException {
-
-        if (PRIMITIVE_ARRAYS.containsKey(arrayType)) {
-            return PRIMITIVE_ARRAYS.get(arrayType);
-        }
-
-        String typeName = arrayType.getName();
-
-        Matcher matcher = ARRAY_TYPE_REGEXP.matcher(typeName);
-
-        if (!matcher.find()) {
-            throw new DtoGeneratorException("Cannot find array element type using next regex pattern: "
-                    + ARRAY_TYPE_REGEXP.pattern() + " in type: '" + typeName + "'");
+    /**
+     * @param field      field of map type
+     * @param ownerClass class, in the context of which type variables are resolved
+     * @return key and value types of the map
+     * @throws DtoGeneratorException if the field doesn't have pair of generic types
+     */
+    public static Class<?>[] getPairedGenericType(Field field, Class<?> ownerClass) throws DtoGeneratorException {
+        Type fieldType = GenericTypes.getFieldType(field, ownerClass);
+        Class<?> rawType = GenericTypes.getRawType(fieldType);
+        Type[] typeArguments = GenericTypes.getTypeArguments(fieldType,
+                Map.class.isAssignableFrom(rawType) ? Map.class : rawType);
+
+        if (typeArguments == null || typeArguments.length != 2) {
+            throw new DtoGeneratorException("Next type must have pair of generic type: '" + fieldType.getTypeName() + "'");
         }
 
-        return getClass(matcher.group(1), typeName);
+        return new Class[]{GenericTypes.getRawType(typeArguments[0]), GenericTypes.getRawType(typeArguments[1])};
     }
 
-    private static Class<?> getClass(String className, String typeName) {
-        try {
-            return Class.forName(className);
-        } catch (ClassNotFoundException e) {
-            throw new DtoGeneratorException("Can't create class for name: '" + className + "' obtained from" +
-                    " type: '" + typeName + "'", e);
+    public static Class<?> getArrayElementType(Class<?> arrayType) throws DtoGeneratorException {
+        if (!arrayType.isArray()) {
+            throw new DtoGeneratorException("Cannot find array element type of the type: '" + arrayType.getName() + "'");
         }
+        return arrayType.getComponentType();
     }
 
     /**
@@ -125,14 +113,14 @@ public final class ReflectionUtils {
      * @return class instance
      */
     @SuppressWarnings("unchecked")
-
     public static <T> T createInstance(Class<T> classToCreate, Object... constructorArgs) {
 
-        if (classToCreate.isInterface() || Modifier.isAbstract(classToCreate.getModifiers())) {
-            throw new DtoGeneratorException("Can't create instance of '" + classToCreate + "' because" +
-                    " it is interface or abstract.");
+        if (constructorArgs.length == 0) {
+            return getNoArgsInstantiator(classToCreate).get();
         }
 
+        checkInstantiable(classToCreate);
+
         Optional<Constructor<?>> suitableConstructor;
         try {
 
@@ -161,6 +149,61 @@ public final class ReflectionUtils {
         }
     }
 
+    /**
+     * No-args constructor of the class is resolved once, on the first call, into the method handle,
+     * so the instantiation doesn't require constructor lookup and access checks.
+     * If the class can't be instantiated, the returned supplier throws the exception on every call.
+     *
+     * @param classToCreate class to instantiate
+     * @param <T>           type of instantiating class
+     * @return cached supplier of new instances of the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> getNoArgsInstantiator(Class<T> classToCreate) {
+        return (Supplier<T>) NO_ARGS_INSTANTIATORS.get(classToCreate);
+    }
+
+    private static Supplier<?> resolveNoArgsInstantiator(Class<?> classToCreate) {
+        try {
+            checkInstantiable(classToCreate);
+        } catch (DtoGeneratorException e) {
+            return () -> {
+                throw new DtoGeneratorException(e.getMessage(), e);
+            };
+        }
+
+        MethodHandle constructor;
+        try {
+            Constructor<?> noArgsConstructor = classToCreate.getDeclaredConstructor();
+            noArgsConstructor.setAccessible(true);
+            constructor = MethodHandles.lookup().unreflectConstructor(noArgsConstructor).asType(INSTANTIATOR_TYPE);
+        } catch (NoSuchMethodException e) {
+            return () -> {
+                throw new DtoGeneratorException("Failed to instantiate class: '" + classToCreate + "'",
+                        new DtoGeneratorException("Class must have no-args constructor."));
+            };
+        } catch (Exception e) {
+            return () -> {
+                throw new DtoGeneratorException("Failed to instantiate class: '" + classToCreate + "'", e);
+            };
+        }
+
+        return () -> {
+            try {
+                return constructor.invokeExact();
+            } catch (Throwable e) {
+                throw new DtoGeneratorException("Failed to instantiate class: '" + classToCreate + "'", e);
+            }
+        };
+    }
+
+    private static void checkInstantiable(Class<?> classToCreate) {
+        if (classToCreate.isInterface() || Modifier.isAbstract(classToCreate.getModifiers())) {
+            throw new DtoGeneratorException("Can't create instance of '" + classToCreate + "' because" +
+                    " it is interface or abstract.");
+        }
+    }
+
     private static boolean isTypesAssignableFromObjects(Class<?>[] types, Object[] objects) {
 
         if (types.length != objects.length) {
@@ -247,24 +290,14 @@ public final class ReflectionUtils {
         return getFieldType(
                 fields,
                 initialIdx + 1,
-                ReflectionUtils.getFieldReclusive(initialType, fields[initialIdx], true).getType()
+                ReflectionUtils.getFieldReclusive(initialType, fields[initialIdx]).getType()
         );
     }
 
-    private static Field getFieldReclusive(Class<?> fromClass, String fieldName, boolean upper) {
-        Field field;
-
-        if (fromClass == Object.class) {
-            field = null;
-        } else {
-            try {
-                field = fromClass.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                field = getFieldReclusive(fromClass.getSuperclass(), fieldName, false);
-            }
-        }
+    private static Field getFieldReclusive(Class<?> fromClass, String fieldName) {
+        Field field = ClassMetadata.of(fromClass).getFieldOrNull(fieldName);
 
-        if (upper && field == null) {
+        if (field == null) {
             throw new DtoGeneratorException("Field '" + fieldName + "'" +
                     " not found in the class: '" + fromClass.getName() + "'");
         }
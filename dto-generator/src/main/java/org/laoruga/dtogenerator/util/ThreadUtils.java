@@ -0,0 +1,73 @@
+package org.laoruga.dtogenerator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author agent
+ * Created on 18.10.2026
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ThreadUtils {
+
+    /**
+     * 'Executors.newVirtualThreadPerTaskExecutor()' method, which is available since Java 21,
+     * or null when running JVM doesn't provide virtual threads.
+     */
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutorFactory();
+
+    private static Method findVirtualThreadPerTaskExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            log.debug("Virtual threads aren't supported by the running JVM");
+            return null;
+        }
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * @param poolSize number of threads of the fallback pool
+     * @return executor starting new virtual thread for each task, if virtual threads are supported,
+     * otherwise fixed pool of daemon platform threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutorOrPool(int poolSize) {
+        if (isVirtualThreadsSupported()) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+            } catch (Exception e) {
+                throw new DtoGeneratorException("Unable to create virtual thread per task executor", e);
+            }
+        }
+        return Executors.newFixedThreadPool(poolSize, new DaemonThreadFactory());
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger(0);
+
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable,
+                    "dto-generator-" + poolNumber + "-thread-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
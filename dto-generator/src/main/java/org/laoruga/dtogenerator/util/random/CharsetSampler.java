@@ -0,0 +1,130 @@
+package org.laoruga.dtogenerator.util.random;
+
+import org.laoruga.dtogenerator.api.RandomSource;
+import org.laoruga.dtogenerator.util.RandomUtils;
+
+import java.util.Arrays;
+
+/**
+ * Generates random strings of the characters of the charset.
+ * <p>
+ * Sampler is created once per charset and is immutable, so it may be shared between threads.
+ * Characters are written to the per thread buffer, so the only allocation per string is the string itself.
+ * Each random long gives several characters: if the size of the charset is a power of two, characters
+ * are taken from the consecutive groups of bits, otherwise each half of the long gives a character
+ * via Lemire's multiply-shift method, with rejection of the rare biased values.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public final class CharsetSampler {
+
+    private static final long LOW_BITS = 0xFFFFFFFFL;
+    private static final int INITIAL_BUFFER_LENGTH = 256;
+    /**
+     * Buffers of greater length aren't kept by threads.
+     */
+    private static final int MAX_KEPT_BUFFER_LENGTH = 1 << 16;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[INITIAL_BUFFER_LENGTH]);
+
+    private final char[] chars;
+    /**
+     * Number of bits per character if the size of the charset is a power of two, otherwise 0.
+     */
+    private final int bitsPerChar;
+    /**
+     * Low 32 bits of the products less than this value are rejected, it is 2^32 mod size of the charset.
+     */
+    private final long threshold;
+
+    public CharsetSampler(char[] chars) {
+        if (chars.length == 0) {
+            throw new IllegalArgumentException("Charset must not be empty");
+        }
+        this.chars = chars.clone();
+        int size = chars.length;
+        this.bitsPerChar = size > 1 && (size & (size - 1)) == 0 ? Integer.numberOfTrailingZeros(size) : 0;
+        this.threshold = (LOW_BITS + 1) % size;
+    }
+
+    public CharsetSampler(String chars) {
+        this(chars.toCharArray());
+    }
+
+    /**
+     * @param length length of the string
+     * @return string of the random characters, taken from the source bound to the current thread
+     */
+    public String nextString(int length) {
+        return nextString(length, RandomUtils.source());
+    }
+
+    /**
+     * @param length length of the string
+     * @param source source of random values
+     * @return string of the random characters
+     */
+    public String nextString(int length, RandomSource source) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative, but was: " + length);
+        }
+        char[] buffer = buffer(length);
+        fill(buffer, length, source);
+        return new String(buffer, 0, length);
+    }
+
+    private void fill(char[] buffer, int length, RandomSource source) {
+        if (chars.length == 1) {
+            Arrays.fill(buffer, 0, length, chars[0]);
+        } else if (bitsPerChar != 0) {
+            fillPowerOfTwo(buffer, length, source);
+        } else {
+            fillBounded(buffer, length, source);
+        }
+    }
+
+    private void fillPowerOfTwo(char[] buffer, int length, RandomSource source) {
+        int charsPerLong = Long.SIZE / bitsPerChar;
+        int mask = chars.length - 1;
+        int i = 0;
+        while (i < length) {
+            long bits = source.nextLong();
+            for (int j = 0; j < charsPerLong && i < length; j++) {
+                buffer[i++] = chars[(int) bits & mask];
+                bits >>>= bitsPerChar;
+            }
+        }
+    }
+
+    private void fillBounded(char[] buffer, int length, RandomSource source) {
+        long size = chars.length;
+        int i = 0;
+        while (i < length) {
+            long bits = source.nextLong();
+            long product = (bits >>> 32) * size;
+            if ((product & LOW_BITS) >= threshold) {
+                buffer[i++] = chars[(int) (product >>> 32)];
+            }
+            if (i < length) {
+                product = (bits & LOW_BITS) * size;
+                if ((product & LOW_BITS) >= threshold) {
+                    buffer[i++] = chars[(int) (product >>> 32)];
+                }
+            }
+        }
+    }
+
+    private static char[] buffer(int length) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length >= length) {
+            return buffer;
+        }
+        if (length > MAX_KEPT_BUFFER_LENGTH) {
+            return new char[length];
+        }
+        buffer = new char[Math.max(length, Math.min(buffer.length * 2, MAX_KEPT_BUFFER_LENGTH))];
+        BUFFER.set(buffer);
+        return buffer;
+    }
+
+}
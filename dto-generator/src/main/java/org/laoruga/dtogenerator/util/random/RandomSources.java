@@ -0,0 +1,46 @@
+package org.laoruga.dtogenerator.util.random;
+
+import org.laoruga.dtogenerator.api.RandomSource;
+
+import java.util.function.Supplier;
+
+/**
+ * Built-in random sources, each constant is a factory of the source,
+ * which may be passed to {@code DtoGeneratorBuilder#randomSource(Supplier)}.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public enum RandomSources implements Supplier<RandomSource> {
+
+    /**
+     * {@link java.util.concurrent.ThreadLocalRandom}, used by default.
+     */
+    THREAD_LOCAL_RANDOM {
+        @Override
+        public RandomSource get() {
+            return ThreadLocalRandomSource.INSTANCE;
+        }
+    },
+
+    /**
+     * {@link java.util.SplittableRandom}, new instance per thread.
+     */
+    SPLITTABLE_RANDOM {
+        @Override
+        public RandomSource get() {
+            return new SplittableRandomSource();
+        }
+    },
+
+    /**
+     * xoshiro256**, new instance per thread.
+     */
+    XOSHIRO_256 {
+        @Override
+        public RandomSource get() {
+            return new Xoshiro256RandomSource();
+        }
+    }
+
+}
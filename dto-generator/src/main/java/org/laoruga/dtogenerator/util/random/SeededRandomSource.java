@@ -0,0 +1,67 @@
+package org.laoruga.dtogenerator.util.random;
+
+import org.laoruga.dtogenerator.api.RandomSource;
+
+/**
+ * Source of reproducible random values, used when DTO generator is seeded.
+ * <p>
+ * Every field of every DTO draws values from its own stream. Stream is SplitMix64 sequence,
+ * which start is derived from the seed, index of DTO, key of the field and number of the attempt
+ * to generate the field. So values of the field depend neither on the other fields, nor on the order,
+ * in which DTOs are generated by different threads.
+ * <p>
+ * Instance isn't thread safe, it is reused by the thread for all the generated DTOs.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public final class SeededRandomSource implements RandomSource {
+
+    private final long seed;
+    private long dtoSeed;
+    private long state;
+
+    public SeededRandomSource(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Starts generation of the DTO.
+     *
+     * @param dtoIndex index of the DTO
+     */
+    public void startDto(long dtoIndex) {
+        dtoSeed = SplitMix64.mix(seed + SplitMix64.mix(dtoIndex) * SplitMix64.GOLDEN_GAMMA);
+        state = dtoSeed;
+    }
+
+    /**
+     * Starts stream of the field of the current DTO.
+     *
+     * @param streamKey key of the field, see {@link SeededRandomSource#streamKey(String)}
+     * @param attempt   number of the attempt to generate the field, starting from 0
+     */
+    public void startStream(long streamKey, int attempt) {
+        // streams of the attempts are mixed once more, otherwise they would be the same sequence shifted
+        state = SplitMix64.mix(SplitMix64.mix(dtoSeed ^ streamKey) + attempt * SplitMix64.GOLDEN_GAMMA);
+    }
+
+    @Override
+    public long nextLong() {
+        return SplitMix64.mix(state += SplitMix64.GOLDEN_GAMMA);
+    }
+
+    /**
+     * @param name stable name of the field, for example, path from the root DTO
+     * @return key of the stream of the field
+     */
+    public static long streamKey(String name) {
+        // FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash = (hash ^ name.charAt(i)) * 0x100000001b3L;
+        }
+        return SplitMix64.mix(hash);
+    }
+
+}
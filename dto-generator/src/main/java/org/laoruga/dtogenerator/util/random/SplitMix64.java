@@ -0,0 +1,27 @@
+package org.laoruga.dtogenerator.util.random;
+
+/**
+ * SplitMix64 mixing function by Guy Steele, Doug Lea and Christine Flood,
+ * the same as used by {@link java.util.SplittableRandom}.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+final class SplitMix64 {
+
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private SplitMix64() {
+    }
+
+    /**
+     * @param z value to mix
+     * @return bits of the value, mixed so that close values give unrelated results
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.laoruga.dtogenerator.util.random;
+
+import org.laoruga.dtogenerator.api.RandomSource;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source delegating to {@link SplittableRandom}, instance isn't thread safe.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public final class SplittableRandomSource implements RandomSource {
+
+    private final SplittableRandom random;
+
+    public SplittableRandomSource() {
+        this.random = new SplittableRandom();
+    }
+
+    public SplittableRandomSource(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return random.nextLong(bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return random.nextLong(origin, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.laoruga.dtogenerator.util.random;
+
+import org.laoruga.dtogenerator.api.RandomSource;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Default source delegating to {@link ThreadLocalRandom}, the single instance is shared by all threads.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+
+    public static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+    private ThreadLocalRandomSource() {
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return ThreadLocalRandom.current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return ThreadLocalRandom.current().nextLong(bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return ThreadLocalRandom.current().nextLong(origin, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public float nextFloat() {
+        return ThreadLocalRandom.current().nextFloat();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return ThreadLocalRandom.current().nextBoolean();
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.laoruga.dtogenerator.util.random;
+
+import org.laoruga.dtogenerator.api.RandomSource;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementation of xoshiro256** generator by David Blackman and Sebastiano Vigna.
+ * It has 256 bits of state and period 2^256 - 1, state is initialized from the seed via SplitMix64.
+ * Instance isn't thread safe.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+public final class Xoshiro256RandomSource implements RandomSource {
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    public Xoshiro256RandomSource() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    public Xoshiro256RandomSource(long seed) {
+        s0 = SplitMix64.mix(seed += SplitMix64.GOLDEN_GAMMA);
+        s1 = SplitMix64.mix(seed += SplitMix64.GOLDEN_GAMMA);
+        s2 = SplitMix64.mix(seed += SplitMix64.GOLDEN_GAMMA);
+        s3 = SplitMix64.mix(seed + SplitMix64.GOLDEN_GAMMA);
+    }
+
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+}
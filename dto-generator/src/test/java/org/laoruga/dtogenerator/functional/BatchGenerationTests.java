@@ -0,0 +1,292 @@
+package org.laoruga.dtogenerator.functional;
+
+import io.qameta.allure.Epic;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.laoruga.dtogenerator.DtoGenerator;
+import org.laoruga.dtogenerator.api.generators.custom.CustomGenerator;
+import org.laoruga.dtogenerator.api.rules.CustomRule;
+import org.laoruga.dtogenerator.api.rules.IntegralRule;
+import org.laoruga.dtogenerator.api.rules.NestedDtoRule;
+import org.laoruga.dtogenerator.api.rules.StringRule;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author agent
+ * Created on 18.10.2026
+ */
+@DisplayName("Batch generation")
+@Epic("BATCH_GENERATION")
+@Slf4j
+class BatchGenerationTests {
+
+    @Getter
+    @NoArgsConstructor
+    static class Dto {
+
+        @StringRule(minLength = 10)
+        String string;
+
+        @IntegralRule(minInt = 1, maxInt = 100)
+        Integer integer;
+
+        @NestedDtoRule
+        Nested nested;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    static class Nested {
+
+        @StringRule(minLength = 10)
+        String string;
+
+    }
+
+    @Getter
+    @NoArgsConstructor
+    static class DtoWithBlockingGenerator {
+
+        @CustomRule(generatorClass = BlockingGenerator.class)
+        String string;
+
+        @NestedDtoRule
+        Nested nested;
+    }
+
+    /**
+     * Imitates reading of reference data from the external store.
+     */
+    static class BlockingGenerator implements CustomGenerator<String> {
+
+        static final AtomicInteger ACTIVE = new AtomicInteger();
+        static final AtomicInteger MAX_ACTIVE = new AtomicInteger();
+
+        @Override
+        public String generate() {
+            MAX_ACTIVE.accumulateAndGet(ACTIVE.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                ACTIVE.decrementAndGet();
+            }
+            return "reference value";
+        }
+    }
+
+    @Test
+    @DisplayName("Generation of list of DTOs")
+    void generateDtos() {
+
+        List<Dto> dtoList = DtoGenerator.builder(Dto.class).build().generateDtos(100);
+
+        assertThat(dtoList, hasSize(100));
+
+        dtoListAssertions(dtoList);
+    }
+
+    @Test
+    @DisplayName("Generation of DTOs into passed collection")
+    void generateInto() {
+
+        DtoGenerator<Dto> dtoGenerator = DtoGenerator.builder(Dto.class).build();
+
+        List<Dto> target = new LinkedList<>(dtoGenerator.generateDtos(5));
+
+        List<Dto> result = dtoGenerator.generateInto(target, 10);
+
+        assertThat(result, sameInstance(target));
+        assertThat(result, hasSize(15));
+
+        dtoListAssertions(result);
+    }
+
+    @Test
+    @DisplayName("Generation of zero DTOs")
+    void generateZeroDtos() {
+
+        DtoGenerator<Dto> dtoGenerator = DtoGenerator.builder(Dto.class).build();
+
+        assertThat(dtoGenerator.generateDtos(0), empty());
+        assertThrows(IllegalArgumentException.class, () -> dtoGenerator.generateDtos(-1));
+    }
+
+    @Test
+    @DisplayName("Batch generation updating DTO instance")
+    void generateDtosUpdatingInstance() {
+
+        Dto dto = new Dto();
+
+        List<Dto> dtoList = DtoGenerator.builder(dto).build().generateDtos(3);
+
+        assertThat(dtoList, hasSize(3));
+        assertThat(dtoList, everyItem(sameInstance(dto)));
+        assertThat(dto.getString(), notNullValue());
+    }
+
+    @Test
+    @DisplayName("Stream of DTOs")
+    void streamOfDtos() {
+
+        DtoGenerator<Dto> dtoGenerator = DtoGenerator.builder(Dto.class).build();
+
+        List<Dto> dtoList = dtoGenerator.stream().limit(100).collect(Collectors.toList());
+
+        assertThat(dtoList, hasSize(100));
+        dtoListAssertions(dtoList);
+
+        assertThat(dtoGenerator.stream().skip(100).findFirst().isPresent(), equalTo(true));
+    }
+
+    @Test
+    @DisplayName("Parallel stream of DTOs")
+    void parallelStreamOfDtos() {
+
+        List<Dto> dtoList = DtoGenerator.builder(Dto.class).build()
+                .stream()
+                .parallel()
+                .limit(500)
+                .collect(Collectors.toList());
+
+        assertThat(dtoList, hasSize(500));
+        dtoListAssertions(dtoList);
+    }
+
+    @Test
+    @DisplayName("Iterator of DTOs")
+    void iteratorOfDtos() {
+
+        Iterator<Dto> iterator = DtoGenerator.builder(Dto.class).build().iterator();
+
+        List<Dto> dtoList = new LinkedList<>();
+        for (int i = 0; i < 100 && iterator.hasNext(); i++) {
+            dtoList.add(iterator.next());
+        }
+
+        assertThat(dtoList, hasSize(100));
+        dtoListAssertions(dtoList);
+    }
+
+    @Test
+    @DisplayName("Parallel generation of list of DTOs")
+    void generateDtosParallel() {
+
+        DtoGenerator<Dto> dtoGenerator = DtoGenerator.builder(Dto.class).build();
+
+        List<Dto> dtoList = dtoGenerator.generateDtosParallel(500, 4);
+
+        assertThat(dtoList, hasSize(500));
+        dtoListAssertions(dtoList);
+
+        assertThat(dtoGenerator.generateDtosParallel(0, 4), empty());
+        assertThrows(IllegalArgumentException.class, () -> dtoGenerator.generateDtosParallel(-1, 4));
+        assertThrows(IllegalArgumentException.class, () -> dtoGenerator.generateDtosParallel(1, 0));
+    }
+
+    @Test
+    @DisplayName("Parallel generation updating DTO instance")
+    void generateDtosParallelUpdatingInstance() {
+
+        Dto dto = new Dto();
+
+        List<Dto> dtoList = DtoGenerator.builder(dto).build().generateDtosParallel(3, 4);
+
+        assertThat(dtoList, hasSize(3));
+        assertThat(dtoList, everyItem(sameInstance(dto)));
+    }
+
+    @Test
+    @DisplayName("Concurrent generation with blocking generator")
+    void generateDtosConcurrently() {
+
+        BlockingGenerator.MAX_ACTIVE.set(0);
+
+        List<DtoWithBlockingGenerator> dtoList = DtoGenerator.builder(DtoWithBlockingGenerator.class).build()
+                .generateDtosConcurrently(40, 8);
+
+        assertThat(dtoList, hasSize(40));
+        assertAll(
+                () -> assertThat(dtoList, everyItem(notNullValue())),
+                () -> assertThat(dtoList.stream().map(DtoWithBlockingGenerator::getString).collect(Collectors.toList()),
+                        everyItem(equalTo("reference value"))),
+                () -> assertThat(dtoList.stream().map(dto -> dto.getNested().getString()).collect(Collectors.toList()),
+                        everyItem(notNullValue())),
+                () -> assertThat(BlockingGenerator.MAX_ACTIVE.get(), both(greaterThan(1)).and(lessThanOrEqualTo(8)))
+        );
+
+        DtoGenerator<Dto> dtoGenerator = DtoGenerator.builder(Dto.class).build();
+        assertThat(dtoGenerator.generateDtosConcurrently(0, 8), empty());
+        assertThrows(IllegalArgumentException.class, () -> dtoGenerator.generateDtosConcurrently(-1, 8));
+        assertThrows(IllegalArgumentException.class, () -> dtoGenerator.generateDtosConcurrently(1, 0));
+    }
+
+    /**
+     * Rough scaling measurement from 1 to N workers, where N is the number of available processors.
+     * Timings are only logged, because they depend on the environment.
+     */
+    @Test
+    @DisplayName("Parallel generation scaling")
+    void generateDtosParallelScaling() {
+
+        DtoGenerator<Dto> dtoGenerator = DtoGenerator.builder(Dto.class).build();
+        int number = 2000;
+
+        // warm up
+        dtoGenerator.generateDtos(number);
+
+        StringBuilder report = new StringBuilder();
+        for (int parallelism = 1; parallelism <= Runtime.getRuntime().availableProcessors(); parallelism *= 2) {
+
+            long start = System.nanoTime();
+            List<Dto> dtoList = dtoGenerator.generateDtosParallel(number, parallelism);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertThat(dtoList, hasSize(number));
+            report.append(String.format("%n  parallelism: %2d, DTOs: %d, time: %d ms", parallelism, number, elapsedMillis));
+        }
+
+        log.info("Parallel generation scaling:{}", report);
+    }
+
+    static void dtoListAssertions(List<Dto> dtoList) {
+
+        assertAll(
+                () -> assertThat(dtoList, everyItem(notNullValue())),
+                () -> assertThat(distinctInstances(dtoList, dto -> dto), hasSize(dtoList.size())),
+                () -> assertThat(distinctInstances(dtoList, Dto::getNested), hasSize(dtoList.size())),
+                () -> assertThat(dtoList.stream().map(dto -> dto.getString().length()).collect(Collectors.toList()),
+                        everyItem(greaterThanOrEqualTo(10))),
+                () -> assertThat(dtoList.stream().map(Dto::getInteger).collect(Collectors.toList()),
+                        everyItem(both(greaterThanOrEqualTo(1)).and(lessThanOrEqualTo(100)))),
+                () -> assertThat(dtoList.stream().map(dto -> dto.getNested().getString().length()).collect(Collectors.toList()),
+                        everyItem(greaterThanOrEqualTo(10)))
+        );
+    }
+
+    private static Set<Object> distinctInstances(List<Dto> dtoList, Function<Dto, Object> mapper) {
+        Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        dtoList.stream().map(mapper).forEach(instances::add);
+        return instances;
+    }
+
+}
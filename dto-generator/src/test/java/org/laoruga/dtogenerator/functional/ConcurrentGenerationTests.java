@@ -0,0 +1,166 @@
+package org.laoruga.dtogenerator.functional;
+
+import io.qameta.allure.Epic;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.laoruga.dtogenerator.DtoGenerator;
+import org.laoruga.dtogenerator.Extensions;
+import org.laoruga.dtogenerator.config.dto.DtoGeneratorStaticConfig;
+import org.laoruga.dtogenerator.functional.BatchGenerationTests.Dto;
+import org.laoruga.dtogenerator.functional.CustomGeneratorDtoDependentTests.DtoWithDeclaredDependencies;
+import org.laoruga.dtogenerator.util.random.RandomSources;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.laoruga.dtogenerator.Constants.RESTORE_STATIC_CONFIG;
+import static org.laoruga.dtogenerator.functional.BatchGenerationTests.dtoListAssertions;
+
+/**
+ * Single DTO generator shared by many threads.
+ *
+ * @author agent
+ * Created on 18.10.2026
+ */
+@DisplayName("Concurrent generation")
+@Epic("BATCH_GENERATION")
+@Slf4j
+@ExtendWith(Extensions.RestoreStaticConfig.class)
+class ConcurrentGenerationTests {
+
+    private static final int THREADS = 64;
+    private static final int DTOS_PER_THREAD = 200;
+
+    @Test
+    @DisplayName("Stress test of the generator shared by 64 threads")
+    void sharedGeneratorStressTest() throws Exception {
+
+        DtoGenerator<Dto> dtoGenerator = DtoGenerator.builder(Dto.class).build();
+        DtoGenerator<DtoWithDeclaredDependencies> dependentGenerator =
+                DtoGenerator.builder(DtoWithDeclaredDependencies.class).build();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<List<Dto>>> dtoFutures = new ArrayList<>(THREADS);
+        List<Future<List<DtoWithDeclaredDependencies>>> dependentFutures = new ArrayList<>(THREADS);
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                if (i % 2 == 0) {
+                    dtoFutures.add(executorService.submit(() -> {
+                        start.await();
+                        List<Dto> result = new ArrayList<>(DTOS_PER_THREAD);
+                        for (int j = 0; j < DTOS_PER_THREAD; j++) {
+                            result.add(dtoGenerator.generateDto());
+                        }
+                        return result;
+                    }));
+                } else {
+                    dependentFutures.add(executorService.submit(() -> {
+                        start.await();
+                        return dependentGenerator.generateDtos(DTOS_PER_THREAD);
+                    }));
+                }
+            }
+
+            long startTime = System.nanoTime();
+            start.countDown();
+
+            List<Dto> dtoList = new ArrayList<>();
+            for (Future<List<Dto>> future : dtoFutures) {
+                dtoList.addAll(future.get(1, TimeUnit.MINUTES));
+            }
+            List<DtoWithDeclaredDependencies> dependentList = new ArrayList<>();
+            for (Future<List<DtoWithDeclaredDependencies>> future : dependentFutures) {
+                dependentList.addAll(future.get(1, TimeUnit.MINUTES));
+            }
+
+            log.info("{} DTOs have been generated by {} threads in {} ms", dtoList.size() + dependentList.size(),
+                    THREADS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+            Set<Object> distinctNested = Collections.newSetFromMap(new IdentityHashMap<>());
+            dtoList.forEach(dto -> distinctNested.add(dto.getNested()));
+
+            assertAll(
+                    () -> assertThat(dtoList, hasSize(THREADS / 2 * DTOS_PER_THREAD)),
+                    () -> assertThat(dependentList, hasSize(THREADS / 2 * DTOS_PER_THREAD)),
+                    () -> assertThat(distinctNested, hasSize(dtoList.size())),
+                    () -> dtoListAssertions(dtoList),
+                    () -> dependentList.forEach(dto -> assertAll(
+                            () -> assertThat(dto.getThirdLink(), equalTo(dto.getFirstLink() + "-2-3")),
+                            () -> assertThat(dto.getNested().getLink(),
+                                    equalTo(dto.getFirstLink() + "-2-3-" + dto.getNested().getLot()))
+                    ))
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @Tag(RESTORE_STATIC_CONFIG)
+    @DisplayName("Static config is captured by generators when they are built")
+    void staticConfigCapturedOnBuilding() throws Exception {
+
+        DtoGenerator<Dto> builtBefore = DtoGenerator.builder(Dto.class).build();
+
+        DtoGeneratorStaticConfig.getInstance().getTypeGeneratorsConfig().getStringConfig().setMaxLength(10);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<List<Dto>>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executorService.submit(() -> DtoGenerator.builder(Dto.class).build().generateDtos(10)));
+            }
+
+            List<Dto> builtAfter = new ArrayList<>();
+            for (Future<List<Dto>> future : futures) {
+                builtAfter.addAll(future.get(1, TimeUnit.MINUTES));
+            }
+
+            List<Dto> generatedBefore = builtBefore.generateDtos(DTOS_PER_THREAD);
+
+            assertAll(
+                    () -> builtAfter.forEach(dto -> assertThat(dto.getString().length(), equalTo(10))),
+                    () -> assertThat(generatedBefore.stream().mapToInt(dto -> dto.getString().length()).max().getAsInt(),
+                            greaterThan(10))
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel generation with per thread random sources")
+    void parallelGenerationWithRandomSources() {
+
+        for (RandomSources randomSource : RandomSources.values()) {
+            List<Dto> dtoList = DtoGenerator.builder(Dto.class)
+                    .randomSource(randomSource)
+                    .build()
+                    .generateDtosParallel(THREADS * 10, 8);
+
+            assertAll(
+                    () -> assertThat(dtoList, hasSize(THREADS * 10)),
+                    () -> dtoListAssertions(dtoList)
+            );
+        }
+    }
+
+}
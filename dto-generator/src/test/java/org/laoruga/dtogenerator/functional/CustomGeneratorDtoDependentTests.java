@@ -5,13 +5,18 @@ import io.qameta.allure.Feature;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.laoruga.dtogenerator.DtoGenerator;
+import org.laoruga.dtogenerator.GenerationContext;
 import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent;
 import org.laoruga.dtogenerator.api.rules.*;
 import org.laoruga.dtogenerator.constants.CharSet;
+import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +27,7 @@ import java.util.function.Supplier;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Il'dar Valitov
@@ -156,6 +162,156 @@ public class CustomGeneratorDtoDependentTests {
 
     }
 
+    @Getter
+    static class DtoWithChainOfDependentFields {
+
+        @CustomRule(generatorClass = ThirdLinkGenerator.class)
+        String thirdLink;
+
+        @CustomRule(generatorClass = SecondLinkGenerator.class)
+        String secondLink;
+
+        @StringRule(minLength = 5, maxLength = 5)
+        String firstLink;
+    }
+
+    @Test
+    @DisplayName("DTO dependent generator depends on other DTO dependent generator")
+    void chainOfDtoDependentGenerators() {
+
+        DtoWithChainOfDependentFields dto = DtoGenerator.builder(DtoWithChainOfDependentFields.class)
+                .build()
+                .generateDto();
+
+        assertAll(
+                () -> assertThat(dto.getSecondLink(), equalTo(dto.getFirstLink() + "-2")),
+                () -> assertThat(dto.getThirdLink(), equalTo(dto.getFirstLink() + "-2-3"))
+        );
+    }
+
+    @Getter
+    static class DtoNeverReady {
+
+        @CustomRule(generatorClass = NeverReadyGenerator.class)
+        String string;
+    }
+
+    @Test
+    @Tag("NEGATIVE_TEST")
+    @DisplayName("DTO is never ready for DTO dependent generator")
+    void dtoIsNeverReady() {
+
+        DtoGenerator<DtoNeverReady> dtoGenerator = DtoGenerator.builder(DtoNeverReady.class).build();
+
+        DtoGeneratorException exception = assertThrows(DtoGeneratorException.class, dtoGenerator::generateDto);
+
+        assertThat(ExceptionUtils.getStackTrace(exception), containsString("All attempts to generate field values have been exhausted"));
+    }
+
+    @Getter
+    static class DtoWithDeclaredDependencies {
+
+        @CustomRule(generatorClass = ThirdLinkDeclaredGenerator.class)
+        String thirdLink;
+
+        @CustomRule(generatorClass = SecondLinkDeclaredGenerator.class)
+        String secondLink;
+
+        @StringRule(minLength = 5, maxLength = 5)
+        String firstLink;
+
+        @NestedDtoRule
+        NestedDtoWithDeclaredDependencies nested;
+    }
+
+    @Getter
+    static class NestedDtoWithDeclaredDependencies {
+
+        @CustomRule(generatorClass = NestedLinkGenerator.class, dependsOn = {"thirdLink", "nested.lot"})
+        String link;
+
+        @StringRule(minLength = 5, maxLength = 5)
+        String lot;
+    }
+
+    @Test
+    @DisplayName("DTO dependent generators with declared dependencies")
+    void declaredDependencies() {
+
+        DtoWithDeclaredDependencies dto = DtoGenerator.builder(DtoWithDeclaredDependencies.class)
+                .build()
+                .generateDto();
+
+        assertAll(
+                () -> assertThat(dto.getSecondLink(), equalTo(dto.getFirstLink() + "-2")),
+                () -> assertThat(dto.getThirdLink(), equalTo(dto.getFirstLink() + "-2-3")),
+                () -> assertThat(dto.getNested().getLink(),
+                        equalTo(dto.getFirstLink() + "-2-3-" + dto.getNested().getLot()))
+        );
+    }
+
+    @Test
+    @DisplayName("DTO dependent generators use DTO of their own generation context")
+    void dtoDependentGeneratorsInParallel() {
+
+        List<DtoWithDeclaredDependencies> declared = DtoGenerator.builder(DtoWithDeclaredDependencies.class)
+                .build()
+                .generateDtosParallel(200, 4);
+
+        List<DtoWithChainOfDependentFields> chained = DtoGenerator.builder(DtoWithChainOfDependentFields.class)
+                .build()
+                .generateDtosParallel(200, 4);
+
+        assertAll(
+                () -> assertThat(declared, hasSize(200)),
+                () -> assertThat(chained, hasSize(200)),
+                () -> declared.forEach(dto -> assertThat(dto.getNested().getLink(),
+                        equalTo(dto.getFirstLink() + "-2-3-" + dto.getNested().getLot()))),
+                () -> chained.forEach(dto -> assertThat(dto.getThirdLink(),
+                        equalTo(dto.getFirstLink() + "-2-3"))),
+                () -> assertThat(GenerationContext.current(), nullValue())
+        );
+    }
+
+    @Getter
+    static class DtoWithCyclicDependencies {
+
+        @CustomRule(generatorClass = CyclicGenerator.class, dependsOn = "second")
+        String first;
+
+        @CustomRule(generatorClass = CyclicGenerator.class, dependsOn = "first")
+        String second;
+    }
+
+    @Getter
+    static class DtoWithDependencyOnUndeclared {
+
+        @CustomRule(generatorClass = CyclicGenerator.class, dependsOn = "second")
+        String first;
+
+        @CustomRule(generatorClass = CyclicGenerator.class)
+        String second;
+    }
+
+    @Test
+    @Tag("NEGATIVE_TEST")
+    @DisplayName("Wrong declared dependencies are reported on build")
+    void wrongDeclaredDependencies() {
+
+        DtoGeneratorException cyclic = assertThrows(DtoGeneratorException.class,
+                () -> DtoGenerator.builder(DtoWithCyclicDependencies.class).build());
+
+        DtoGeneratorException dependencyOnUndeclared = assertThrows(DtoGeneratorException.class,
+                () -> DtoGenerator.builder(DtoWithDependencyOnUndeclared.class).build());
+
+        assertAll(
+                () -> assertThat(ExceptionUtils.getStackTrace(cyclic),
+                        containsString("Cyclic dependency between generators of fields:")),
+                () -> assertThat(ExceptionUtils.getStackTrace(dependencyOnUndeclared),
+                        containsString("which generator doesn't declare its own dependencies"))
+        );
+    }
+
     /*
      * Custom generator
      */
@@ -187,6 +343,153 @@ public class CustomGeneratorDtoDependentTests {
     }
 
 
+    static class SecondLinkGenerator implements CustomGeneratorDtoDependent<String, DtoWithChainOfDependentFields> {
+
+        Supplier<DtoWithChainOfDependentFields> dto;
+
+        @Override
+        public String generate() {
+            return dto.get().firstLink + "-2";
+        }
+
+        @Override
+        public void setDtoSupplier(Supplier<DtoWithChainOfDependentFields> dto) {
+            this.dto = dto;
+        }
+
+        @Override
+        public boolean isDtoReady() {
+            return dto.get().firstLink != null;
+        }
+    }
+
+    static class ThirdLinkGenerator implements CustomGeneratorDtoDependent<String, DtoWithChainOfDependentFields> {
+
+        Supplier<DtoWithChainOfDependentFields> dto;
+
+        @Override
+        public String generate() {
+            return dto.get().secondLink + "-3";
+        }
+
+        @Override
+        public void setDtoSupplier(Supplier<DtoWithChainOfDependentFields> dto) {
+            this.dto = dto;
+        }
+
+        @Override
+        public boolean isDtoReady() {
+            return dto.get().secondLink != null;
+        }
+    }
+
+    /**
+     * DTO readiness isn't checked when dependencies are declared.
+     */
+    static class SecondLinkDeclaredGenerator implements CustomGeneratorDtoDependent<String, DtoWithDeclaredDependencies> {
+
+        Supplier<DtoWithDeclaredDependencies> dto;
+
+        @Override
+        public String generate() {
+            return dto.get().firstLink + "-2";
+        }
+
+        @Override
+        public void setDtoSupplier(Supplier<DtoWithDeclaredDependencies> dto) {
+            this.dto = dto;
+        }
+
+        @Override
+        public boolean isDtoReady() {
+            return false;
+        }
+
+        @Override
+        public String[] dependsOn() {
+            return new String[]{"firstLink"};
+        }
+    }
+
+    static class ThirdLinkDeclaredGenerator implements CustomGeneratorDtoDependent<String, DtoWithDeclaredDependencies> {
+
+        Supplier<DtoWithDeclaredDependencies> dto;
+
+        @Override
+        public String generate() {
+            return dto.get().secondLink + "-3";
+        }
+
+        @Override
+        public void setDtoSupplier(Supplier<DtoWithDeclaredDependencies> dto) {
+            this.dto = dto;
+        }
+
+        @Override
+        public boolean isDtoReady() {
+            return false;
+        }
+
+        @Override
+        public String[] dependsOn() {
+            return new String[]{"secondLink"};
+        }
+    }
+
+    static class NestedLinkGenerator implements CustomGeneratorDtoDependent<String, DtoWithDeclaredDependencies> {
+
+        Supplier<DtoWithDeclaredDependencies> dto;
+
+        @Override
+        public String generate() {
+            return dto.get().thirdLink + "-" + dto.get().nested.lot;
+        }
+
+        @Override
+        public void setDtoSupplier(Supplier<DtoWithDeclaredDependencies> dto) {
+            this.dto = dto;
+        }
+
+        @Override
+        public boolean isDtoReady() {
+            return false;
+        }
+    }
+
+    static class CyclicGenerator implements CustomGeneratorDtoDependent<String, Object> {
+
+        @Override
+        public String generate() {
+            return "cyclic";
+        }
+
+        @Override
+        public void setDtoSupplier(Supplier<Object> dto) {
+        }
+
+        @Override
+        public boolean isDtoReady() {
+            return true;
+        }
+    }
+
+    static class NeverReadyGenerator implements CustomGeneratorDtoDependent<String, DtoNeverReady> {
+
+        @Override
+        public String generate() {
+            return "never";
+        }
+
+        @Override
+        public void setDtoSupplier(Supplier<DtoNeverReady> dto) {
+        }
+
+        @Override
+        public boolean isDtoReady() {
+            return false;
+        }
+    }
+
     /*
      * Hamcrest matcher
      */
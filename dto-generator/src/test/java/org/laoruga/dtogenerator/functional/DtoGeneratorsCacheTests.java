@@ -0,0 +1,119 @@
+package org.laoruga.dtogenerator.functional;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.laoruga.dtogenerator.DtoGenerator;
+import org.laoruga.dtogenerator.DtoGeneratorBuilder;
+import org.laoruga.dtogenerator.DtoGeneratorsCache;
+import org.laoruga.dtogenerator.Extensions;
+import org.laoruga.dtogenerator.functional.BatchGenerationTests.Dto;
+import org.laoruga.dtogenerator.generator.config.dto.StringConfig;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.laoruga.dtogenerator.Constants.RESTORE_STATIC_CONFIG;
+import static org.laoruga.dtogenerator.constants.Boundary.MAX_VALUE;
+
+/**
+ * @author agent
+ * Created on 18.10.2026
+ */
+@DisplayName("Cache of DTO generators")
+@Epic("BATCH_GENERATION")
+@ExtendWith(Extensions.RestoreStaticConfig.class)
+class DtoGeneratorsCacheTests {
+
+    @BeforeEach
+    @AfterEach
+    void clearCache() {
+        DtoGeneratorsCache.clear();
+        DtoGeneratorsCache.setMaxSize(DtoGeneratorsCache.DEFAULT_MAX_SIZE);
+    }
+
+    private static DtoGeneratorBuilder<Dto> builder() {
+        return DtoGenerator.builder(Dto.class).enableCache();
+    }
+
+    @Test
+    @DisplayName("Generator is reused by the builders with the same settings")
+    void sameSettings() {
+
+        DtoGenerator<Dto> first = builder().includeGroups("GROUP_1").setBoundary("string", MAX_VALUE).build();
+        DtoGenerator<Dto> second = builder().includeGroups("GROUP_1").setBoundary("string", MAX_VALUE).build();
+        DtoGenerator<Dto> withConfig = builder().setGeneratorConfig("string", StringConfig.builder().maxLength(20).build()).build();
+        DtoGenerator<Dto> withSameConfig = builder().setGeneratorConfig("string", StringConfig.builder().maxLength(20).build()).build();
+
+        DtoGeneratorsCache.Statistics statistics = DtoGeneratorsCache.getStatistics();
+
+        assertAll(
+                () -> assertThat(second, sameInstance(first)),
+                () -> assertThat(withSameConfig, sameInstance(withConfig)),
+                () -> assertThat(statistics.getHits(), equalTo(2L)),
+                () -> assertThat(statistics.getMisses(), equalTo(2L)),
+                () -> assertThat(statistics.getSize(), equalTo(2)),
+                () -> assertThat(withSameConfig.generateDto().getString().length(), lessThanOrEqualTo(20))
+        );
+    }
+
+    @Test
+    @DisplayName("Generator isn't reused by the builders with different settings")
+    void differentSettings() {
+
+        DtoGenerator<Dto> generator = builder().build();
+
+        assertAll(
+                () -> assertThat(builder().includeGroups("GROUP_1").build(), not(sameInstance(generator))),
+                () -> assertThat(builder().ignoreField("integer").build(), not(sameInstance(generator))),
+                () -> assertThat(builder().setBoundary(MAX_VALUE).build(), not(sameInstance(generator))),
+                () -> assertThat(builder().setGenerator("string", () -> "a").build(), not(sameInstance(generator))),
+                () -> assertThat(DtoGenerator.builder(Dto.class).build(), not(sameInstance(generator))),
+                () -> assertThat(DtoGeneratorsCache.getStatistics().getHits(), equalTo(0L))
+        );
+    }
+
+    @Test
+    @Tag(RESTORE_STATIC_CONFIG)
+    @DisplayName("Change of the static config invalidates cached generator")
+    void staticConfigChange() {
+
+        DtoGenerator<Dto> generator = builder().build();
+
+        DtoGeneratorBuilder<Dto> builder = builder();
+        builder.getStaticConfig().getTypeGeneratorsConfig().getStringConfig().setMaxLength(11);
+        DtoGenerator<Dto> changed = builder.build();
+
+        assertAll(
+                () -> assertThat(changed, not(sameInstance(generator))),
+                () -> assertThat(changed.generateDto().getString().length(), lessThanOrEqualTo(11))
+        );
+    }
+
+    @Test
+    @DisplayName("Least recently used generators are evicted")
+    void eviction() {
+
+        DtoGeneratorsCache.setMaxSize(2);
+
+        DtoGenerator<Dto> first = builder().includeGroups("1").build();
+        DtoGenerator<Dto> second = builder().includeGroups("2").build();
+        builder().includeGroups("1").build();
+        builder().includeGroups("3").build();
+
+        assertAll(
+                () -> assertThat(builder().includeGroups("1").build(), sameInstance(first)),
+                () -> assertThat(builder().includeGroups("2").build(), not(sameInstance(second))),
+                () -> assertThat(DtoGeneratorsCache.getStatistics().getEvictions(), equalTo(2L))
+        );
+
+        DtoGeneratorsCache.evict(Dto.class);
+
+        assertThat(DtoGeneratorsCache.getStatistics().getSize(), equalTo(0));
+    }
+
+}
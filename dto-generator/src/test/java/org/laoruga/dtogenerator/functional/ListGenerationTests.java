@@ -310,4 +310,40 @@ class ListGenerationTests {
         }
     }
 
+    static class GenericBase<T, N extends Number> {
+        @CollectionRule(minSize = 2, maxSize = 2)
+        List<T> items;
+
+        @CollectionRule(minSize = 1, maxSize = 1)
+        Set<? extends N> numbers;
+
+        List<List<N>> listOfLists;
+
+        Map<T, List<N>> mapOfLists;
+    }
+
+    @Getter
+    static class DtoWithInheritedGenerics extends GenericBase<String, Integer> {
+    }
+
+    @Test
+    @DisplayName("Inherited type variables and nested generic types")
+    void inheritedAndNestedGenericTypes() {
+        DtoWithInheritedGenerics dto = DtoGenerator.builder(DtoWithInheritedGenerics.class)
+                .generateKnownTypes()
+                .build()
+                .generateDto();
+
+        assertAll(
+                () -> assertThat(dto.items, hasSize(2)),
+                () -> assertThat(dto.items, everyItem(instanceOf(String.class))),
+                () -> assertThat(dto.numbers, hasSize(1)),
+                () -> assertThat(dto.numbers, everyItem(instanceOf(Integer.class))),
+                () -> assertThat(dto.listOfLists, not(empty())),
+                () -> dto.listOfLists.forEach(list -> assertThat(list, everyItem(instanceOf(Integer.class)))),
+                () -> assertThat(dto.mapOfLists.keySet(), everyItem(instanceOf(String.class))),
+                () -> dto.mapOfLists.values().forEach(list -> assertThat(list, everyItem(instanceOf(Integer.class))))
+        );
+    }
+
 }
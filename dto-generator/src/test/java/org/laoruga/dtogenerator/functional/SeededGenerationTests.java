@@ -0,0 +1,200 @@
+package org.laoruga.dtogenerator.functional;
+
+import io.qameta.allure.Epic;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.laoruga.dtogenerator.DtoGenerator;
+import org.laoruga.dtogenerator.DtoGeneratorBuilder;
+import org.laoruga.dtogenerator.api.rules.IntegralRule;
+import org.laoruga.dtogenerator.api.rules.NestedDtoRule;
+import org.laoruga.dtogenerator.api.rules.StringRule;
+import org.laoruga.dtogenerator.api.rules.datetime.DateTimeRule;
+import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+import org.laoruga.dtogenerator.util.random.RandomSources;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author agent
+ * Created on 18.10.2026
+ */
+@DisplayName("Seeded generation")
+@Epic("BATCH_GENERATION")
+class SeededGenerationTests {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    static class Dto {
+
+        @StringRule(minLength = 10)
+        String string;
+
+        @IntegralRule(minInt = 1, maxInt = 1000000)
+        Integer integer;
+
+        @DateTimeRule
+        LocalDateTime dateTime;
+
+        @NestedDtoRule
+        Nested nested;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    static class Nested {
+
+        @StringRule(minLength = 10)
+        String string;
+
+        @IntegralRule(minInt = 1, maxInt = 1000000)
+        Integer integer;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    static class DtoWithAddedField {
+
+        @IntegralRule(minInt = 1, maxInt = 1000000)
+        Integer added;
+
+        @StringRule(minLength = 10)
+        String string;
+
+        @IntegralRule(minInt = 1, maxInt = 1000000)
+        Integer integer;
+
+        @DateTimeRule
+        LocalDateTime dateTime;
+
+        @NestedDtoRule
+        Nested nested;
+    }
+
+    private static DtoGeneratorBuilder<Dto> builder(long seed) {
+        return DtoGenerator.builder(Dto.class).seed(seed).clock(CLOCK);
+    }
+
+    @Test
+    @DisplayName("Same DTOs are generated with the same seed regardless of the number of threads")
+    void sameSeed() {
+
+        List<Dto> sequential = builder(42).build().generateDtos(500);
+        List<Dto> parallel = builder(42).build().generateDtosParallel(500, 8);
+        List<Dto> concurrent = builder(42).build().generateDtosConcurrently(500, 16);
+        List<Dto> withRandomSource = builder(42).randomSource(RandomSources.XOSHIRO_256).build().generateDtos(500);
+
+        DtoGenerator<Dto> oneByOne = builder(42).build();
+        List<Dto> generatedOneByOne = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            generatedOneByOne.add(oneByOne.generateDto());
+        }
+
+        assertAll(
+                () -> assertThat(parallel, equalTo(sequential)),
+                () -> assertThat(concurrent, equalTo(sequential)),
+                () -> assertThat(withRandomSource, equalTo(sequential)),
+                () -> assertThat(generatedOneByOne, equalTo(sequential)),
+                () -> assertThat(distinct(sequential, Dto::getString), greaterThan(490)),
+                () -> assertThat(distinct(sequential, dto -> dto.getNested().getString()), greaterThan(490))
+        );
+    }
+
+    @Test
+    @DisplayName("Different DTOs are generated with different seeds")
+    void differentSeeds() {
+
+        List<Dto> first = builder(1).build().generateDtos(100);
+        List<Dto> second = builder(2).build().generateDtos(100);
+
+        assertThat(first, not(equalTo(second)));
+    }
+
+    @Test
+    @DisplayName("Added field doesn't change values of other fields")
+    void addedField() {
+
+        List<Dto> dtoList = builder(7).build().generateDtos(100);
+        List<DtoWithAddedField> withAddedField = DtoGenerator.builder(DtoWithAddedField.class)
+                .seed(7)
+                .clock(CLOCK)
+                .build()
+                .generateDtos(100);
+
+        for (int i = 0; i < dtoList.size(); i++) {
+            Dto dto = dtoList.get(i);
+            DtoWithAddedField other = withAddedField.get(i);
+            assertAll(
+                    () -> assertThat(other.getString(), equalTo(dto.getString())),
+                    () -> assertThat(other.getInteger(), equalTo(dto.getInteger())),
+                    () -> assertThat(other.getDateTime(), equalTo(dto.getDateTime())),
+                    () -> assertThat(other.getNested(), equalTo(dto.getNested()))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("DTOs are generated by index")
+    void generationByIndex() {
+
+        List<Dto> sequential = builder(42).build().generateDtos(300);
+
+        DtoGenerator<Dto> generator = builder(42).build();
+        List<Dto> range = generator.generateRange(100, 200);
+
+        assertAll(
+                () -> assertThat(generator.generateDto(0), equalTo(sequential.get(0))),
+                () -> assertThat(generator.generateDto(299), equalTo(sequential.get(299))),
+                () -> assertThat(range, equalTo(sequential.subList(100, 200))),
+                () -> assertThat(generator.generateRange(5, 5), empty()),
+                () -> assertThat(generator.generateDtos(300), equalTo(sequential))
+        );
+    }
+
+    @Test
+    @DisplayName("Generation by index requires seed")
+    void generationByIndexWithoutSeed() {
+
+        DtoGenerator<Dto> generator = DtoGenerator.builder(Dto.class).build();
+
+        assertAll(
+                () -> assertThrows(DtoGeneratorException.class, () -> generator.generateDto(1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> builder(1).build().generateRange(2, 1))
+        );
+    }
+
+    @Test
+    @DisplayName("Date-time values are generated using the clock")
+    void clock() {
+
+        Dto dto = DtoGenerator.builder(Dto.class)
+                .clock(CLOCK)
+                .build()
+                .generateDto();
+
+        assertThat(dto.getDateTime(), equalTo(LocalDateTime.now(CLOCK)));
+    }
+
+    private static int distinct(List<Dto> dtoList, Function<Dto, Object> getter) {
+        return dtoList.stream().map(getter).collect(Collectors.toSet()).size();
+    }
+
+}
@@ -0,0 +1,159 @@
+package org.laoruga.dtogenerator.functional;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.laoruga.dtogenerator.DtoGenerator;
+import org.laoruga.dtogenerator.api.generators.custom.CustomGenerator;
+import org.laoruga.dtogenerator.api.generators.custom.CustomGeneratorDtoDependent;
+import org.laoruga.dtogenerator.api.generators.custom.ThreadConfined;
+import org.laoruga.dtogenerator.api.rules.CustomRule;
+import org.laoruga.dtogenerator.api.rules.StringRule;
+import org.laoruga.dtogenerator.generator.ThreadConfinedDtoDependentGenerator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * @author agent
+ * Created on 18.10.2026
+ */
+@Epic("CUSTOM_RULES")
+@Feature("THREAD_CONFINED_GENERATOR")
+@DisplayName("Thread confined custom generators")
+class ThreadConfinedGeneratorTests {
+
+    /**
+     * Counter, which isn't thread safe, it fails when it is used by the thread, which hasn't created it.
+     */
+    @ThreadConfined
+    static class CounterGenerator implements CustomGenerator<String> {
+
+        private final Thread owner = Thread.currentThread();
+        private int counter;
+
+        @Override
+        public String generate() {
+            if (owner != Thread.currentThread()) {
+                throw new IllegalStateException("Generator is used by the thread, which doesn't own it");
+            }
+            return owner.getName() + "#" + ++counter;
+        }
+    }
+
+    @ThreadConfined
+    static class DependentCounterGenerator implements CustomGeneratorDtoDependent<String, DtoWithCounters> {
+
+        private final Thread owner = Thread.currentThread();
+        private Supplier<DtoWithCounters> dto;
+        private int counter;
+
+        @Override
+        public void setDtoSupplier(Supplier<DtoWithCounters> dto) {
+            this.dto = dto;
+        }
+
+        @Override
+        public boolean isDtoReady() {
+            return dto.get().getCounter() != null;
+        }
+
+        @Override
+        public String generate() {
+            if (owner != Thread.currentThread()) {
+                throw new IllegalStateException("Generator is used by the thread, which doesn't own it");
+            }
+            return dto.get().getCounter() + "/" + ++counter;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    static class DtoWithCounters {
+
+        @CustomRule(generatorClass = DependentCounterGenerator.class)
+        String dependentCounter;
+
+        @CustomRule(generatorClass = CounterGenerator.class)
+        String counter;
+
+        @StringRule
+        String string;
+    }
+
+    @Test
+    @DisplayName("Separate instance of generator is used by each thread")
+    void threadConfinedGenerators() {
+
+        int number = 1000;
+
+        List<DtoWithCounters> dtoList = DtoGenerator.builder(DtoWithCounters.class)
+                .build()
+                .generateDtosParallel(number, 4);
+
+        Map<String, List<Integer>> countersByThread = dtoList.stream()
+                .map(dto -> dto.getCounter().split("#"))
+                .collect(Collectors.groupingBy(
+                        threadAndCounter -> threadAndCounter[0],
+                        Collectors.mapping(threadAndCounter -> Integer.valueOf(threadAndCounter[1]), Collectors.toList())
+                ));
+
+        assertAll(
+                () -> assertThat(dtoList, hasSize(number)),
+                () -> countersByThread.values().forEach(counters -> assertThat(counters,
+                        containsInAnyOrder(IntStream.rangeClosed(1, counters.size()).boxed().toArray()))),
+                () -> dtoList.forEach(dto -> assertThat(dto.getDependentCounter(),
+                        startsWith(dto.getCounter() + "/")))
+        );
+    }
+
+    @Test
+    @DisplayName("Thread confined generator keeps its state between DTOs of the same thread")
+    void threadConfinedGeneratorState() {
+
+        List<DtoWithCounters> dtoList = DtoGenerator.builder(DtoWithCounters.class)
+                .build()
+                .generateDtos(3);
+
+        assertThat(dtoList.stream().map(DtoWithCounters::getDependentCounter).collect(Collectors.toList()),
+                contains(endsWith("#1/1"), endsWith("#2/2"), endsWith("#3/3")));
+    }
+
+    @Test
+    @DisplayName("DTO supplier is passed to generator instances of all threads")
+    void dtoSupplierOfThreadConfinedGenerator() throws Exception {
+
+        DtoWithCounters first = new DtoWithCounters();
+        first.counter = "first";
+        DtoWithCounters second = new DtoWithCounters();
+        second.counter = "second";
+
+        ThreadConfinedDtoDependentGenerator<String, DtoWithCounters> generator =
+                new ThreadConfinedDtoDependentGenerator<>(DependentCounterGenerator::new);
+
+        generator.setDtoSupplier(() -> first);
+        String generatedByCurrentThread = generator.generate();
+        String generatedByOtherThread = CompletableFuture.supplyAsync(generator::generate).get();
+
+        generator.setDtoSupplier(() -> second);
+        String generatedAfterChange = generator.generate();
+
+        assertAll(
+                () -> assertThat(generatedByCurrentThread, equalTo("first/1")),
+                () -> assertThat(generatedByOtherThread, equalTo("first/1")),
+                () -> assertThat(generatedAfterChange, equalTo("second/2"))
+        );
+    }
+
+}
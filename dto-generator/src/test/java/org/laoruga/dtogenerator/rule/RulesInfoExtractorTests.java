@@ -3,6 +3,7 @@ package org.laoruga.dtogenerator.rule;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -25,6 +26,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.laoruga.dtogenerator.constants.Group.GROUP_1;
 
@@ -206,4 +208,23 @@ class RulesInfoExtractorTests {
         assertThat(dtoGeneratorException.getMessage(), containsString(errMsgPart));
     }
 
+    @Test
+    @DisplayName("Rules info is cached per field and filtered by group of the extractor")
+    void cachedRulesInfo() {
+        Field field = UtilsRoot.getField(Dto.class, "stringMultipleRules");
+
+        RuleInfo group2 = UtilsRoot.getExtractorInstance(Group.GROUP_2).extractRulesInfo(field).orElse(null);
+        RuleInfo group3 = UtilsRoot.getExtractorInstance(Group.GROUP_3).extractRulesInfo(field).orElse(null);
+        RuleInfo group3Again = UtilsRoot.getExtractorInstance(Group.GROUP_3).extractRulesInfo(field).orElse(null);
+
+        assertAll(
+                () -> assertThat(group2.getGroup(), equalTo(Group.GROUP_2)),
+                () -> assertThat(group3.getGroup(), equalTo(Group.GROUP_3)),
+                () -> assertThat(group3Again, sameInstance(group3)),
+                () -> assertFalse(UtilsRoot.getExtractorInstance(GROUP_1).extractRulesInfo(field).isPresent()),
+                () -> assertThrows(DtoGeneratorException.class, () ->
+                        UtilsRoot.getExtractorInstance(Group.GROUP_2, Group.GROUP_3).extractRulesInfo(field))
+        );
+    }
+
 }
@@ -4,15 +4,31 @@ import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.laoruga.dtogenerator.GenerationContext;
+import org.laoruga.dtogenerator.api.RandomSource;
+import org.laoruga.dtogenerator.constants.Bounds;
+import org.laoruga.dtogenerator.constants.CharSet;
+import org.laoruga.dtogenerator.util.random.CharsetSampler;
+import org.laoruga.dtogenerator.util.random.RandomSources;
+import org.laoruga.dtogenerator.util.random.Xoshiro256RandomSource;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 /**
  * @author Il'dar Valitov
@@ -42,6 +58,55 @@ class RandomUtilsTests {
                 equalTo(100.1D));
     }
 
+    @Test
+    @DisplayName("Random decimals of the precision are uniformly distributed including bounds")
+    void decimalsOfPrecision() {
+        int number = 40000;
+        Map<Double, Long> doubles = IntStream.range(0, number).boxed()
+                .collect(Collectors.groupingBy(i -> RandomUtils.nextDouble(0.1, 0.13, 2), Collectors.counting()));
+        Map<Float, Long> floats = IntStream.range(0, number).boxed()
+                .collect(Collectors.groupingBy(i -> RandomUtils.nextFloat(-0.5F, -0.2F, 1), Collectors.counting()));
+        Map<BigDecimal, Long> bigDecimals = IntStream.range(0, number).boxed()
+                .collect(Collectors.groupingBy(
+                        i -> RandomUtils.nextBigDecimal(new BigDecimal("1.234"), new BigDecimal("1.2"), 2),
+                        Collectors.counting()));
+
+        assertAll(
+                () -> assertThat(doubles.keySet(), containsInAnyOrder(0.1, 0.11, 0.12, 0.13)),
+                () -> assertThat(Collections.min(doubles.values()), greaterThan(9000L)),
+                () -> assertThat(floats.keySet(), containsInAnyOrder(-0.5F, -0.4F, -0.3F, -0.2F)),
+                () -> assertThat(Collections.min(floats.values()), greaterThan(9000L)),
+                () -> assertThat(bigDecimals.keySet(), containsInAnyOrder(
+                        new BigDecimal("1.20"), new BigDecimal("1.21"), new BigDecimal("1.22"), new BigDecimal("1.23"))),
+                () -> assertThat(Collections.min(bigDecimals.values()), greaterThan(9000L)),
+                () -> assertThat(RandomUtils.nextDouble(0.121, 0.129, 2),
+                        both(greaterThanOrEqualTo(0.121)).and(lessThanOrEqualTo(0.129))),
+                () -> assertThat(RandomUtils.nextBigDecimal(new BigDecimal("0.121"), new BigDecimal("0.129"), 2),
+                        equalTo(new BigDecimal("0.121")))
+        );
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Random big numbers within the bounds")
+    void bigNumbers() {
+        BigInteger maxLong = BigInteger.valueOf(Long.MAX_VALUE);
+        BigInteger min = maxLong.negate().multiply(maxLong);
+        BigInteger max = maxLong.multiply(BigInteger.TEN);
+        BigDecimal minDecimal = new BigDecimal(Bounds.BIG_DECIMAL_MIN_VALUE);
+        BigDecimal maxDecimal = new BigDecimal(Bounds.BIG_DECIMAL_MAX_VALUE);
+
+        BigInteger bigInteger = RandomUtils.nextBigInteger(min, max);
+        BigDecimal bigDecimal = RandomUtils.nextBigDecimal(minDecimal, maxDecimal, 2);
+
+        assertAll(
+                () -> assertThat(bigInteger, both(greaterThanOrEqualTo(min)).and(lessThanOrEqualTo(max))),
+                () -> assertThat(RandomUtils.nextBigInteger(BigInteger.ONE, BigInteger.ZERO),
+                        either(equalTo(BigInteger.ONE)).or(equalTo(BigInteger.ZERO))),
+                () -> assertThat(bigDecimal, both(greaterThanOrEqualTo(minDecimal)).and(lessThanOrEqualTo(maxDecimal))),
+                () -> assertThat(bigDecimal.scale(), equalTo(2))
+        );
+    }
+
     @RepeatedTest(10)
     @DisplayName("Random integer")
     void nextInteger() {
@@ -139,4 +204,77 @@ class RandomUtilsTests {
         assertThat(result, containsInAnyOrder(true, false));
     }
 
+    @ParameterizedTest
+    @EnumSource(RandomSources.class)
+    @DisplayName("Random values from the source of the bound generation context")
+    void boundSource(RandomSources randomSources) {
+        RandomSource source = randomSources.get();
+        GenerationContext previous = GenerationContext.bind(
+                new GenerationContext(null, 1, Collections.emptyMap(), source, null));
+        try {
+            Set<Integer> ints = IntStream.range(0, 300).boxed()
+                    .map(i -> RandomUtils.nextInt(1, 3))
+                    .collect(Collectors.toSet());
+            Set<Long> extremeLongs = IntStream.range(0, 300).boxed()
+                    .map(i -> RandomUtils.nextLong(Long.MAX_VALUE - 1, Long.MAX_VALUE))
+                    .collect(Collectors.toSet());
+            Set<Integer> fullRangeSigns = IntStream.range(0, 300).boxed()
+                    .map(i -> Long.signum(RandomUtils.nextLong(Long.MIN_VALUE, Long.MAX_VALUE)))
+                    .collect(Collectors.toSet());
+
+            assertAll(
+                    () -> assertThat(RandomUtils.source(), sameInstance(source)),
+                    () -> assertThat(ints, containsInAnyOrder(1, 2, 3)),
+                    () -> assertThat(extremeLongs, containsInAnyOrder(Long.MAX_VALUE - 1, Long.MAX_VALUE)),
+                    () -> assertThat(fullRangeSigns, hasItems(-1, 1)),
+                    () -> assertThat(RandomUtils.nextDouble(0.5, 0.75, 2),
+                            both(greaterThanOrEqualTo(0.5)).and(lessThanOrEqualTo(0.75))),
+                    () -> assertThat(RandomUtils.nextString(new char[]{'a', 'b', 'c'}, 100), matchesRegex("[abc]{100}"))
+            );
+        } finally {
+            GenerationContext.restore(previous);
+        }
+        assertThat(RandomUtils.source(), sameInstance(RandomSources.THREAD_LOCAL_RANDOM.get()));
+    }
+
+    @Test
+    @DisplayName("Bounded values are uniformly distributed")
+    void boundedValues() {
+        RandomSource source = new Xoshiro256RandomSource(11);
+        int bound = 6;
+        int[] counts = new int[bound];
+        for (int i = 0; i < 60000; i++) {
+            counts[source.nextInt(bound)]++;
+        }
+
+        assertAll(
+                () -> assertThat(Arrays.stream(counts).min().getAsInt(), greaterThan(9000)),
+                () -> assertThat(Arrays.stream(counts).max().getAsInt(), lessThan(11000)),
+                () -> assertThat(source.nextLong(0xFFFFFFFFL), both(greaterThanOrEqualTo(0L)).and(lessThan(0xFFFFFFFFL))),
+                () -> assertThat(source.nextLong(0x100000001L), both(greaterThanOrEqualTo(0L)).and(lessThan(0x100000001L))),
+                () -> assertThat(source.nextInt(1), equalTo(0))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "ab", "abcd", "0123456789abcdef", "abc", "0123456789", CharSet.DEFAULT_CHARSET})
+    @DisplayName("Characters of the strings are uniformly distributed")
+    void charsetSampler(String charset) {
+        CharsetSampler sampler = new CharsetSampler(charset);
+        int length = charset.length() * 2000;
+        String randomString = sampler.nextString(length, new Xoshiro256RandomSource(3));
+
+        Map<Character, Long> counts = randomString.chars().boxed()
+                .collect(Collectors.groupingBy(c -> (char) c.intValue(), Collectors.counting()));
+
+        assertAll(
+                () -> assertThat(randomString.length(), equalTo(length)),
+                () -> assertThat(counts.keySet(), hasSize(charset.length())),
+                () -> assertThat(Collections.min(counts.values()), greaterThan(1700L)),
+                () -> assertThat(Collections.max(counts.values()), lessThan(2300L)),
+                () -> assertThat(sampler.nextString(0), emptyString()),
+                () -> assertThat(sampler.nextString(100_000), hasLength(100_000))
+        );
+    }
+
 }
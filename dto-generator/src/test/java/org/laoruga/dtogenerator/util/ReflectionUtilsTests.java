@@ -8,10 +8,16 @@ import org.laoruga.dtogenerator.api.rules.CollectionRule;
 import org.laoruga.dtogenerator.api.rules.Entry;
 import org.laoruga.dtogenerator.api.rules.IntegralRule;
 import org.laoruga.dtogenerator.api.rules.StringRule;
+import org.laoruga.dtogenerator.config.types.TypeGeneratorsConfigLazy;
+import org.laoruga.dtogenerator.constants.GeneratedTypes;
 import org.laoruga.dtogenerator.exceptions.DtoGeneratorException;
+import org.laoruga.dtogenerator.generator.config.dto.CollectionConfig;
+import org.laoruga.dtogenerator.generator.providers.suppliers.GeneratorSupplierInfo;
+import org.laoruga.dtogenerator.generator.providers.suppliers.GeneratorSuppliersDefault;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -261,7 +267,7 @@ class ReflectionUtilsTests {
                 () -> ReflectionUtils.getArrayElementType(String.class)
         );
 
-        assertThat(exception.getMessage(), containsString("Cannot find array element type using next regex pattern"));
+        assertThat(exception.getMessage(), containsString("Cannot find array element type of the type"));
     }
 
     static class Foo {
@@ -318,6 +324,40 @@ class ReflectionUtilsTests {
                 ));
     }
 
+    static class Bar {
+        private Bar() {
+        }
+    }
+
+    @Test
+    @DisplayName("Cached No-Args Instantiator")
+    void cachedNoArgsInstantiator() {
+
+        Supplier<Bar> instantiator = ReflectionUtils.getNoArgsInstantiator(Bar.class);
+
+        Bar first = instantiator.get();
+        Bar second = ReflectionUtils.createInstance(Bar.class);
+
+        assertAll(
+                () -> assertThat(ReflectionUtils.getNoArgsInstantiator(Bar.class), sameInstance(instantiator)),
+                () -> assertThat(first, notNullValue()),
+                () -> assertThat(second, allOf(notNullValue(), not(sameInstance(first))))
+        );
+    }
+
+    @Test
+    @DisplayName("Unable to Create Instance (cached instantiator without args)")
+    @Tag("NEGATIVE_TEST")
+    void unableToCreateInstanceWithCachedInstantiator() {
+
+        Supplier<Foo> instantiator = ReflectionUtils.getNoArgsInstantiator(Foo.class);
+
+        for (int i = 0; i < 2; i++) {
+            DtoGeneratorException exception = assertThrows(DtoGeneratorException.class, instantiator::get);
+            assertThat(ExceptionUtils.getStackTrace(exception), containsString("Class must have no-args constructor"));
+        }
+    }
+
     @CollectionRule(element = @Entry(
             stringRule = @StringRule,
             integralRule = @IntegralRule
@@ -359,4 +399,87 @@ class ReflectionUtilsTests {
         assertThat(ExceptionUtils.getStackTrace(exception), containsString("failed to select @Rules annotation by type"));
     }
 
-}
\ No newline at end of file
+    static class HouseWithFinalField extends TreeHouse {
+
+        final String owner = "Mark";
+
+        Integer branches;
+
+    }
+
+    @Test
+    @DisplayName("Cached class metadata")
+    void cachedClassMetadata() {
+
+        ClassMetadata metadata = ClassMetadata.of(HouseWithFinalField.class);
+        List<Field> fields = metadata.getWritableFields();
+
+        assertAll(
+                () -> assertThat(ClassMetadata.of(HouseWithFinalField.class), sameInstance(metadata)),
+                () -> assertThat(fields.stream().map(Field::getName).toArray(),
+                        arrayContaining("bricks", "branches", "branches")),
+                () -> assertThat(fields.get(0), sameInstance(ClassMetadata.of(House.class).getWritableFields().get(0))),
+                () -> assertThat(metadata.getFieldOrNull("branches").getDeclaringClass(), equalTo(HouseWithFinalField.class)),
+                () -> assertThat(metadata.getFieldOrNull("owner").getType(), equalTo(String.class)),
+                () -> assertThat(metadata.getFieldOrNull("danger"), nullValue())
+        );
+    }
+
+    static class Container<T> {
+        List<T> elements;
+        Map<String, List<T>> elementsByName;
+    }
+
+    static class ContainerOfLists<E> extends Container<List<E>> {
+    }
+
+    static class ContainerOfIntegerLists extends ContainerOfLists<Integer> {
+        ArrayList<? extends Number> numbers;
+        List<? super Integer> consumers;
+    }
+
+    @Test
+    @DisplayName("Resolve generic types")
+    void resolveGenericTypes() {
+
+        Field elements = ReflectionUtils.getField(Container.class, "elements");
+        Field elementsByName = ReflectionUtils.getField(Container.class, "elementsByName");
+        Field numbers = ReflectionUtils.getField(ContainerOfIntegerLists.class, "numbers");
+        Field consumers = ReflectionUtils.getField(ContainerOfIntegerLists.class, "consumers");
+
+        assertAll(
+                () -> assertThat(ReflectionUtils.getSingleGenericType(elements), equalTo(Object.class)),
+                () -> assertThat(ReflectionUtils.getSingleGenericType(elements, ContainerOfIntegerLists.class),
+                        equalTo(List.class)),
+                () -> assertThat(GenericTypes.getFieldType(elements, ContainerOfIntegerLists.class).getTypeName(),
+                        equalTo("java.util.List<java.util.List<java.lang.Integer>>")),
+                () -> assertThat(ReflectionUtils.getPairedGenericType(elementsByName, ContainerOfIntegerLists.class),
+                        arrayContaining(String.class, List.class)),
+                () -> assertThat(GenericTypes.getFieldType(elementsByName, ContainerOfIntegerLists.class),
+                        sameInstance(GenericTypes.getFieldType(elementsByName, ContainerOfIntegerLists.class))),
+                () -> assertThat(ReflectionUtils.getSingleGenericType(numbers), equalTo(Number.class)),
+                () -> assertThat(ReflectionUtils.getSingleGenericType(consumers), equalTo(Integer.class))
+        );
+    }
+
+    @Test
+    @DisplayName("Dispatch of types to rules, configs and generator suppliers")
+    void typeDispatch() {
+
+        TypeGeneratorsConfigLazy typeGeneratorsConfig = new TypeGeneratorsConfigLazy();
+        assertNull(typeGeneratorsConfig.getOrNull(ArrayList.class));
+
+        CollectionConfig listConfig = CollectionConfig.builder().minSize(1).build();
+        typeGeneratorsConfig.setGeneratorConfigForType(List.class, listConfig);
+
+        assertAll(
+                () -> assertThat(GeneratedTypes.getRulesClass(Integer.class), equalTo(Optional.of(IntegralRule.class))),
+                () -> assertThat(GeneratedTypes.getRulesClass(ArrayList.class), equalTo(Optional.of(CollectionRule.class))),
+                () -> assertThat(GeneratedTypes.getRulesClass(Father.class), equalTo(Optional.empty())),
+                () -> assertThat(typeGeneratorsConfig.getOrNull(ArrayList.class), sameInstance(listConfig)),
+                () -> assertThat(GeneratorSuppliersDefault.getInstance().getGeneratorSupplierInfo(int.class)
+                        .map(GeneratorSupplierInfo::getRules), equalTo(Optional.of(IntegralRule.class)))
+        );
+    }
+
+}